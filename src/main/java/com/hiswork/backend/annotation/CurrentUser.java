@@ -0,0 +1,20 @@
+package com.hiswork.backend.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 현재 사용자를 컨트롤러 파라미터로 주입하는 어노테이션
+ * 파라미터 타입은 AuthPrincipal(가벼운 인증 정보) 또는 User(요청별 복사본)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+
+    /**
+     * false이면 인증되지 않은 요청에 null 주입
+     */
+    boolean required() default true;
+}
@@ -0,0 +1,122 @@
+package com.hiswork.backend.config;
+
+import com.hiswork.backend.util.BoundedExecution;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 작업 유형별 비동기 실행기 / 동시 실행 한도 <br/>
+ * 메일, 알림은 각자 크기가 제한된 대기열과 스레드를 사용하여
+ * 한 작업이 몰려도 다른 작업을 굶기거나 힙을 무한히 늘리지 않도록 분리한다.
+ * 응답을 기다려야 하는 PDF, 대량 작업은 요청 스레드에서 실행하되 동시 실행 수만 제한한다.
+ * 대기열/활성 스레드 지표는 actuator가 executor.* 지표로 수집하고, 거부 횟수는 executor.rejected로 기록한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final AsyncProperties asyncProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public AsyncTaskExecutor mailExecutor() {
+        return buildExecutor("mail", asyncProperties.getMail());
+    }
+
+    @Bean
+    public AsyncTaskExecutor mailDispatchExecutor() {
+        return buildExecutor("mail-dispatch", asyncProperties.getMailDispatch());
+    }
+
+    @Bean
+    public AsyncTaskExecutor notificationExecutor() {
+        return buildExecutor("notification", asyncProperties.getNotification());
+    }
+
+    @Bean
+    public BoundedExecution pdfExecution() {
+        return buildLimit("pdf", asyncProperties.getPdf());
+    }
+
+    @Bean
+    public BoundedExecution bulkExecution() {
+        return buildLimit("bulk", asyncProperties.getBulk());
+    }
+
+    // 요청 스레드에서 실행하는 작업의 동시 실행 한도 (실행/대기 수는 bounded.* 지표로 수집)
+    private BoundedExecution buildLimit(String name, AsyncProperties.Limit limit) {
+        Counter rejected = rejectedCounter(name);
+        BoundedExecution execution = new BoundedExecution(limit.getMaxConcurrent(), limit.getMaxWaiting(), () -> {
+            rejected.increment();
+            log.warn("동시 실행 한도 [{}] 초과로 요청 거부", name);
+        });
+        Gauge.builder("bounded.active", execution, BoundedExecution::getActiveCount)
+                .description("실행 중인 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bounded.waiting", execution, BoundedExecution::getWaitingCount)
+                .description("순서를 기다리는 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        return execution;
+    }
+
+    private AsyncTaskExecutor buildExecutor(String name, AsyncProperties.Pool pool) {
+        if (pool.isVirtualThreads()) {
+            if (Runtime.version().feature() >= 21) {
+                SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+                executor.setVirtualThreads(true);
+                // 가상 스레드는 대기열 없이 동시 실행 수만 제한 (한도에 도달하면 호출자가 대기)
+                executor.setConcurrencyLimit(pool.getMaxSize());
+                log.info("비동기 실행기 [{}] 가상 스레드 사용 - 동시 실행 한도: {}", name, pool.getMaxSize());
+                return executor;
+            }
+            log.warn("비동기 실행기 [{}] 가상 스레드는 Java 21 이상에서만 지원되어 스레드 풀로 대체", name);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectedExecutionHandler(countingHandler(name, pool.getRejectionPolicy()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 거부 정책을 적용하기 전에 거부 횟수를 기록
+    private RejectedExecutionHandler countingHandler(String name, AsyncProperties.RejectionPolicy policy) {
+        Counter rejected = rejectedCounter(name);
+
+        RejectedExecutionHandler delegate = switch (policy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+        };
+
+        return (task, executor) -> {
+            rejected.increment();
+            log.warn("비동기 실행기 [{}] 대기열이 가득 차 작업 거부 - 정책: {}", name, policy);
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    private Counter rejectedCounter(String name) {
+        return Counter.builder("executor.rejected")
+                .description("대기열이 가득 차 거부된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+}
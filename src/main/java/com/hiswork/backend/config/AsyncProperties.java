@@ -0,0 +1,60 @@
+package com.hiswork.backend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 작업 유형별 비동기 실행기 / 동시 실행 한도 설정 (app.async.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncProperties {
+
+    // 메일 발송 대기열 전송
+    private Pool mail = new Pool(2, 2, 10, RejectionPolicy.ABORT, false);
+
+    // 메일 배치를 SMTP 연결별로 나눠 병렬 전송 - 넘치면 워커 스레드가 직접 전송
+    private Pool mailDispatch = new Pool(3, 3, 0, RejectionPolicy.CALLER_RUNS, false);
+
+    // 실시간(SSE) 알림 전송 - 유실되어도 알림 목록에는 남으므로 넘치면 버림
+    private Pool notification = new Pool(2, 4, 500, RejectionPolicy.DISCARD, false);
+
+    // PDF 생성 (CPU/메모리 사용량이 커서 동시 처리 수를 작게 유지, 요청 스레드에서 실행)
+    private Limit pdf = new Limit(4, 20);
+
+    // 대량 문서 생성 (요청 스레드에서 실행)
+    private Limit bulk = new Limit(2, 5);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int coreSize;
+        private int maxSize;
+        private int queueCapacity;
+        private RejectionPolicy rejectionPolicy;
+        // Java 21 이상에서만 적용 (maxSize를 동시 실행 한도로 사용)
+        private boolean virtualThreads;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int maxConcurrent;
+        // 동시 실행 한도에 도달했을 때 순서를 기다릴 수 있는 요청 수 (초과 시 즉시 실패)
+        private int maxWaiting;
+    }
+
+    public enum RejectionPolicy {
+        ABORT,       // 예외 발생 (호출자가 처리)
+        CALLER_RUNS, // 호출한 스레드에서 직접 실행
+        DISCARD      // 작업을 버림 (결과를 기다리지 않는 작업에만 사용)
+    }
+}
@@ -0,0 +1,88 @@
+package com.hiswork.backend.config;
+
+import com.hiswork.backend.util.CircuitBreaker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 히즈넷 로그인 API 호출용 HTTP 클라이언트 설정 <br/>
+ * 연결 풀로 keep-alive 연결을 재사용하고, 연결/응답/풀 대기 시간을 제한하여 히즈넷이 느려져도 요청 스레드가 묶이지 않게 한다.
+ * RestTemplateBuilder로 만들어 호출 지연/오류는 http.client.requests 지표로 집계된다.
+ * hisnet.url을 로컬 스텁 서버 주소로 바꾸면 실제 히즈넷 없이 로그인 흐름을 확인할 수 있다.
+ */
+@Configuration
+public class HisnetClientConfig {
+
+    @Value("${hisnet.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${hisnet.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    // 풀에서 연결을 얻기까지 기다리는 최대 시간 (풀이 가득 차면 빠르게 실패)
+    @Value("${hisnet.pool.acquire-timeout-ms:1000}")
+    private long acquireTimeoutMs;
+
+    @Value("${hisnet.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${hisnet.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${hisnet.circuit-breaker.open-seconds:30}")
+    private long openSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient hisnetHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 히즈넷 한 곳만 호출
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate hisnetRestTemplate(RestTemplateBuilder builder, CloseableHttpClient hisnetHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(hisnetHttpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker hisnetCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("hisnet", failureThreshold, Duration.ofSeconds(openSeconds));
+        Gauge.builder("hisnet.circuit.open", circuitBreaker, cb -> cb.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("히즈넷 서킷 브레이커 열림 여부 (1: 호출 차단 중)")
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,34 @@
+package com.hiswork.backend.config;
+
+import com.hiswork.backend.domain.Document;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 마감일 알림 단계 설정 (app.reminder.*) <br/>
+ * 문서 상태별로 마감 며칠 전에 알릴지 지정 (1 = D-1, 0 = 당일, -1 = 마감 다음 날부터 지연 알림)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reminder")
+public class ReminderProperties {
+
+    // 한 번에 조회/발송하는 대상 수
+    private int pageSize = 200;
+
+    // 서버 중단 등으로 놓친 지연 알림을 며칠 전 마감까지 보충 발송할지
+    private int catchUpDays = 7;
+
+    // 기동 직후 한 번 실행하여 놓친 알림 보충
+    private boolean runOnStartup = true;
+
+    private Map<Document.DocumentStatus, List<Integer>> stages = new LinkedHashMap<>(Map.of(
+            Document.DocumentStatus.EDITING, List.of(3, 1, -1),
+            Document.DocumentStatus.REVIEWING, List.of(1, -1),
+            Document.DocumentStatus.SIGNING, List.of(1, -1)
+    ));
+}
@@ -1,6 +1,10 @@
 package com.hiswork.backend.config;
 
+import com.hiswork.backend.security.JwtAuthenticationFilter;
+import com.hiswork.backend.util.AuthUtil;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -10,17 +14,22 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final AuthUtil authUtil;
+
+    // BCrypt 비용 (1 증가마다 해시 시간 2배, 로그인 처리량은 auth.password.match 지표로 확인)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt-strength:10}") int bcryptStrength) {
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -55,6 +64,8 @@ public class SecurityConfig {
                         .authorities("ROLE_ANONYMOUS_SIGNER")
                         .principal("anonymousUser")
                 )
+                // 요청당 한 번 JWT 검증 후 SecurityContext에 인증 정보 저장
+                .addFilterBefore(new JwtAuthenticationFilter(authUtil), UsernamePasswordAuthenticationFilter.class)
                 .httpBasic(httpBasic -> httpBasic.disable())
                 .formLogin(formLogin -> formLogin.disable());
 
@@ -77,6 +88,7 @@ public class SecurityConfig {
                         .authorities("ROLE_ANONYMOUS_SIGNER")
                         .principal("anonymousUser")
                 )
+                .addFilterBefore(new JwtAuthenticationFilter(authUtil), UsernamePasswordAuthenticationFilter.class)
                 .oauth2Login(oauth2 -> oauth2
                         .defaultSuccessUrl("/", true)
                 );
@@ -12,6 +12,7 @@ import com.hiswork.backend.dto.BulkStagingItemsResponse;
 import com.hiswork.backend.repository.BulkStagingRepository;
 import com.hiswork.backend.service.BulkDocumentService;
 import com.hiswork.backend.util.AuthUtil;
+import com.hiswork.backend.util.BoundedExecution;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -40,6 +42,8 @@ public class BulkDocumentController {
     private final BulkDocumentService bulkDocumentService;
     private final BulkStagingRepository bulkStagingRepository;
     private final AuthUtil authUtil;
+    @Qualifier("bulkExecution")
+    private final BoundedExecution bulkExecution;
 
     // 엑셀 파일 업로드 및 데이터 임시저장
     @PostMapping("/preview")
@@ -99,7 +103,9 @@ public class BulkDocumentController {
             User currentUser = getCurrentUser(httpRequest);
 
             // 2. 대량 문서 생성
-            BulkCommitResponse response = bulkDocumentService.commitBulkCreation(request, currentUser);
+            BulkCommitResponse response = bulkExecution.call(
+                    () -> bulkDocumentService.commitBulkCreation(request, currentUser),
+                    "대량 문서 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
             log.info("대량 문서 생성 완료 - 생성: {}, 건너뜀: {}, 실패: {}",
                     response.getCreated(), response.getSkipped(), response.getFailed());
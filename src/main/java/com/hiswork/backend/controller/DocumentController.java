@@ -16,6 +16,7 @@ import com.hiswork.backend.service.ExcelParsingService;
 import com.hiswork.backend.service.MailService;
 import com.hiswork.backend.service.PdfService;
 import com.hiswork.backend.util.AuthUtil;
+import com.hiswork.backend.util.BoundedExecution;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.nio.file.Files;
@@ -26,6 +27,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -52,6 +54,10 @@ public class DocumentController {
     private final ExcelParsingService excelParsingService;
     private final BulkDocumentService bulkDocumentService;
     private final MailService mailService;
+    @Qualifier("pdfExecution")
+    private final BoundedExecution pdfExecution;
+    @Qualifier("bulkExecution")
+    private final BoundedExecution bulkExecution;
 
     @PostMapping
     public ResponseEntity<?> createDocument(
@@ -75,7 +81,9 @@ public class DocumentController {
                 bulkRequest.setOnDuplicate(BulkCommitRequest.OnDuplicateAction.SKIP); // 기본값
                 bulkRequest.setDeadline(request.getDeadline()); // deadline 설정
 
-                BulkCommitResponse bulkResponse = bulkDocumentService.commitBulkCreation(bulkRequest, creator);
+                BulkCommitResponse bulkResponse = bulkExecution.call(
+                        () -> bulkDocumentService.commitBulkCreation(bulkRequest, creator),
+                        "대량 문서 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
                 log.info("대량 문서 생성 완료 - 생성: {}, 건너뜀: {}, 실패: {}",
                         bulkResponse.getCreated(), bulkResponse.getSkipped(), bulkResponse.getFailed());
@@ -406,13 +414,17 @@ public class DocumentController {
                         .body(Map.of("error", "PDF 다운로드는 PDF 기반 템플릿만 지원됩니다."));
             }
 
-            // PDF 생성
-            String completedPdfPath = pdfService.generateCompletedPdf(
-                    document.getTemplate().getPdfFilePath(),
-                    null, // coordinateFields는 더 이상 사용하지 않음
-                    document.getData(),
-                    document.getTemplate().getName()
-            );
+            // PDF 생성 (요청 스레드에서 실행하되 동시 생성 수를 제한)
+            String templatePdfPath = document.getTemplate().getPdfFilePath();
+            String templateName = document.getTemplate().getName();
+            String completedPdfPath = pdfExecution.call(
+                    () -> pdfService.generateCompletedPdf(
+                            templatePdfPath,
+                            null, // coordinateFields는 더 이상 사용하지 않음
+                            document.getData(),
+                            templateName
+                    ),
+                    "PDF 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
             log.info("PDF 다운로드 요청 - 문서 ID: {}, 상태: {}", id, document.getStatus());
             log.info("템플릿 파일 경로: {}", document.getTemplate().getPdfFilePath());
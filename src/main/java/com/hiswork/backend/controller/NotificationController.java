@@ -1,10 +1,11 @@
 package com.hiswork.backend.controller;
 
-import com.hiswork.backend.domain.Notification;
+import com.hiswork.backend.annotation.CurrentUser;
 import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.NotificationFeedResponse;
+import com.hiswork.backend.dto.NotificationResponse;
+import com.hiswork.backend.security.AuthPrincipal;
 import com.hiswork.backend.service.NotificationService;
-import com.hiswork.backend.util.AuthUtil;
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -30,20 +32,19 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationController {
 
     private final NotificationService notificationService;
-    private final AuthUtil authUtil;
 
     /**
      * 사용자의 알림 목록 조회 (페이지네이션)
+     * 깊은 페이지는 느려지므로 새 화면은 /notifications/feed 사용
      */
     @GetMapping
-    public ResponseEntity<Page<Notification>> getNotifications(
+    public ResponseEntity<Page<NotificationResponse>> getNotifications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            HttpServletRequest request) {
+            @CurrentUser User currentUser) {
 
         try {
-            User currentUser = authUtil.getCurrentUser(request);
-            Page<Notification> notifications = notificationService.getUserNotifications(currentUser, page, size);
+            Page<NotificationResponse> notifications = notificationService.getUserNotifications(currentUser, page, size);
             return ResponseEntity.ok(notifications);
         } catch (Exception e) {
             log.error("알림 목록 조회 실패", e);
@@ -52,13 +53,51 @@ public class NotificationController {
     }
 
     /**
-     * 읽지 않은 알림 목록 조회
+     * 사용자의 알림 목록 조회 (커서 기반)
+     * 응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<NotificationFeedResponse> getNotificationFeed(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @CurrentUser User currentUser) {
+
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationFeed(currentUser, cursor, size, unreadOnly));
+        } catch (Exception e) {
+            log.error("알림 목록 조회 실패: cursor={}", cursor, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 커서 이후 새로 생긴 알림 조회 (SSE 재연결 시 누락분 보충)
+     * cursor에는 마지막으로 받은 알림의 커서(실시간 알림의 cursor 필드 또는 이전 응답의 nextCursor)를 전달
+     */
+    @GetMapping("/feed/since")
+    public ResponseEntity<NotificationFeedResponse> getNotificationsSince(
+            @RequestParam("cursor") String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @CurrentUser User currentUser) {
+
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationsSince(currentUser, cursor, size));
+        } catch (Exception e) {
+            log.error("신규 알림 조회 실패: cursor={}", cursor, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 목록 조회 (최신순, 최대 size개)
      */
     @GetMapping("/unread")
-    public ResponseEntity<List<Notification>> getUnreadNotifications(HttpServletRequest request) {
+    public ResponseEntity<List<NotificationResponse>> getUnreadNotifications(
+            @RequestParam(defaultValue = "50") int size,
+            @CurrentUser User currentUser) {
         try {
-            User currentUser = authUtil.getCurrentUser(request);
-            List<Notification> unreadNotifications = notificationService.getUnreadNotifications(currentUser);
+            List<NotificationResponse> unreadNotifications = notificationService.getUnreadNotifications(currentUser, size);
             return ResponseEntity.ok(unreadNotifications);
         } catch (Exception e) {
             log.error("읽지 않은 알림 조회 실패", e);
@@ -70,9 +109,8 @@ public class NotificationController {
      * 읽지 않은 알림 개수 조회
      */
     @GetMapping("/unread/count")
-    public ResponseEntity<Map<String, Long>> getUnreadNotificationCount(HttpServletRequest request) {
+    public ResponseEntity<Map<String, Long>> getUnreadNotificationCount(@CurrentUser User currentUser) {
         try {
-            User currentUser = authUtil.getCurrentUser(request);
             long count = notificationService.getUnreadNotificationCount(currentUser);
             return ResponseEntity.ok(Map.of("count", count));
         } catch (Exception e) {
@@ -87,10 +125,9 @@ public class NotificationController {
     @PutMapping("/{notificationId}/read")
     public ResponseEntity<Map<String, String>> markAsRead(
             @PathVariable Long notificationId,
-            HttpServletRequest request) {
+            @CurrentUser User currentUser) {
 
         try {
-            User currentUser = authUtil.getCurrentUser(request);
             notificationService.markAsRead(notificationId, currentUser);
             return ResponseEntity.ok(Map.of("message", "알림이 읽음 처리되었습니다."));
         } catch (Exception e) {
@@ -104,9 +141,8 @@ public class NotificationController {
      * 모든 알림 읽음 처리
      */
     @PutMapping("/read-all")
-    public ResponseEntity<Map<String, String>> markAllAsRead(HttpServletRequest request) {
+    public ResponseEntity<Map<String, String>> markAllAsRead(@CurrentUser User currentUser) {
         try {
-            User currentUser = authUtil.getCurrentUser(request);
             notificationService.markAllAsRead(currentUser);
             return ResponseEntity.ok(Map.of("message", "모든 알림이 읽음 처리되었습니다."));
         } catch (Exception e) {
@@ -122,10 +158,9 @@ public class NotificationController {
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<Map<String, String>> deleteNotification(
             @PathVariable Long notificationId,
-            HttpServletRequest request) {
+            @CurrentUser User currentUser) {
 
         try {
-            User currentUser = authUtil.getCurrentUser(request);
             notificationService.deleteNotification(notificationId, currentUser);
             return ResponseEntity.ok(Map.of("message", "알림이 삭제되었습니다."));
         } catch (Exception e) {
@@ -139,9 +174,8 @@ public class NotificationController {
      * 모든 알림 삭제
      */
     @DeleteMapping("/all")
-    public ResponseEntity<Map<String, String>> deleteAllNotifications(HttpServletRequest request) {
+    public ResponseEntity<Map<String, String>> deleteAllNotifications(@CurrentUser User currentUser) {
         try {
-            User currentUser = authUtil.getCurrentUser(request);
             notificationService.deleteAllNotifications(currentUser);
             return ResponseEntity.ok(Map.of("message", "모든 알림이 삭제되었습니다."));
         } catch (Exception e) {
@@ -153,28 +187,25 @@ public class NotificationController {
 
     /**
      * SSE 연결 (실시간 알림)
+     * 브라우저(EventSource)가 재연결하며 보내는 Last-Event-ID 이후의 알림을 다시 전송하고,
+     * 다시 보낼 수 없으면 replay-gap 이벤트를 보내므로 클라이언트는 /feed/since로 누락분만 보충하면 됨
      */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamNotifications(
-            @RequestParam(value = "token", required = false) String token,
-            HttpServletRequest request) {
-        try {
-            User currentUser;
-
-            // 토큰이 쿼리 파라미터로 전달된 경우 처리
-            if (token != null && !token.isEmpty()) {
-                // Authorization 헤더에 토큰을 설정하여 AuthUtil이 처리할 수 있도록 함
-                request.setAttribute("Authorization", "Bearer " + token);
-            }
-
-            currentUser = authUtil.getCurrentUser(request);
-            log.info("SSE 연결 요청: 사용자={}", currentUser.getName());
-            return notificationService.createSseEmitter(currentUser.getId());
-        } catch (Exception e) {
-            log.error("SSE 연결 실패", e);
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+            @CurrentUser(required = false) AuthPrincipal currentUser) {
+        // EventSource는 헤더를 설정할 수 없으므로 토큰은 token 쿼리 파라미터로 받아 JwtAuthenticationFilter에서 인증
+        if (currentUser == null) {
+            log.error("SSE 연결 실패: 인증 정보가 없습니다.");
             SseEmitter emitter = new SseEmitter();
-            emitter.completeWithError(e);
+            emitter.completeWithError(new RuntimeException("인증 토큰이 없습니다."));
             return emitter;
         }
+
+        log.info("SSE 연결 요청: 사용자={}", currentUser.getName());
+        // 헤더를 직접 설정할 수 없는 클라이언트는 쿼리 파라미터로 전달
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return notificationService.createSseEmitter(currentUser.getId(), lastEventId);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,11 @@
 package com.hiswork.backend.controller;
 
+import com.hiswork.backend.domain.MailDeliveryMode;
 import com.hiswork.backend.domain.User;
 import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.util.AuthCache;
+import com.hiswork.backend.util.AuthUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -10,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +28,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final AuthUtil authUtil;
+    private final AuthCache authCache;
 
     @GetMapping("/search")
     public ResponseEntity<List<Map<String, Object>>> searchUsers(
@@ -65,4 +73,41 @@ public class UserController {
             return ResponseEntity.ok(List.of()); // 빈 리스트 반환
         }
     }
-} 
\ No newline at end of file
+
+    // 메일 수신 방식 조회 (IMMEDIATE: 즉시 발송, DIGEST: 하루 요약 발송)
+    @GetMapping("/me/mail-preference")
+    public ResponseEntity<?> getMailPreference(HttpServletRequest request) {
+        try {
+            User user = authUtil.getCurrentUser(request);
+            MailDeliveryMode mode = user.getMailDeliveryMode() != null
+                    ? user.getMailDeliveryMode() : MailDeliveryMode.IMMEDIATE;
+            return ResponseEntity.ok(Map.of("mailDeliveryMode", mode));
+        } catch (Exception e) {
+            log.error("메일 수신 방식 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 메일 수신 방식 변경
+    @PutMapping("/me/mail-preference")
+    public ResponseEntity<?> updateMailPreference(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        try {
+            User currentUser = authUtil.getCurrentUser(request);
+            MailDeliveryMode mode = MailDeliveryMode.valueOf(body.get("mailDeliveryMode"));
+            // 캐시된 사용자 정보로 덮어쓰지 않도록 최신 상태를 다시 읽어 변경
+            User user = userRepository.findById(currentUser.getId())
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            user.setMailDeliveryMode(mode);
+            userRepository.save(user);
+            authCache.evictUser(user.getId());
+
+            log.info("메일 수신 방식 변경: 사용자={}, 방식={}", user.getId(), mode);
+            return ResponseEntity.ok(Map.of("mailDeliveryMode", mode));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "mailDeliveryMode는 IMMEDIATE 또는 DIGEST만 가능합니다"));
+        } catch (Exception e) {
+            log.error("메일 수신 방식 변경 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -5,9 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.Map;
 
 @Entity
-@Table(name = "bulk_staging_item")
+@Table(name = "bulk_staging_item", indexes = {
+    @Index(name = "idx_bulk_staging_item_staging_row", columnList = "staging_id, row_number")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -40,6 +46,11 @@ public class BulkStagingItem {
     @Column(name = "document_title", length = 255)
     private String documentTitle;
     
+    // 기본 4개 컬럼 외 추가 컬럼 (헤더명 -> 값), 커밋 시 문서 필드 미리 채우기용
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "extra_data", columnDefinition = "jsonb")
+    private Map<String, String> extraData;
+    
     @Column(name = "is_valid", nullable = false)
     @Builder.Default
     private boolean isValid = true;
@@ -17,7 +17,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+    @Index(name = "idx_documents_status_deadline", columnList = "status, deadline")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,6 +1,7 @@
 package com.hiswork.backend.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hiswork.backend.security.DocumentRoleChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +13,11 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "documents_role")
+@Table(name = "documents_role", indexes = {
+    @Index(name = "idx_documents_role_document_role", columnList = "document_id, task_role"),
+    @Index(name = "idx_documents_role_document_user", columnList = "document_id, assigned_user_id")
+})
+@EntityListeners(DocumentRoleChangeListener.class)
 @Data
 @Builder
 @NoArgsConstructor
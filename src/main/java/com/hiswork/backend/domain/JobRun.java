@@ -0,0 +1,60 @@
+package com.hiswork.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 실행 이력 (어느 노드가 언제 실행했고 결과가 어땠는지)
+ */
+@Entity
+@Table(name = "job_run", indexes = {
+    @Index(name = "idx_job_run_name_started_at", columnList = "job_name, started_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RunStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public enum RunStatus {
+        RUNNING,    // 실행 중
+        SUCCEEDED,  // 성공
+        FAILED      // 실패
+    }
+
+    public void finish(RunStatus status, String errorMessage, LocalDateTime now) {
+        this.status = status;
+        this.finishedAt = now;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+    }
+}
@@ -0,0 +1,16 @@
+package com.hiswork.backend.domain;
+
+public enum MailDeliveryMode {
+    IMMEDIATE("즉시 발송"),
+    DIGEST("하루 요약 발송");
+
+    private final String description;
+
+    MailDeliveryMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
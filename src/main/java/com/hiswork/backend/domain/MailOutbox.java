@@ -0,0 +1,100 @@
+package com.hiswork.backend.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열 (Transactional Outbox)
+ * 메일 요청을 업무 트랜잭션과 같은 트랜잭션에 기록하고, 커밋된 건만 전송 워커가 발송
+ */
+@Entity
+@Table(name = "mail_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutbox {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mail_type", nullable = false, length = 50)
+    private MailType mailType;
+    
+    @Column(name = "recipient_email", nullable = false, length = 320)
+    private String recipientEmail;
+    
+    // 메일 생성에 필요한 값 (MailRequest의 command를 JSON으로 저장)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", columnDefinition = "jsonb", nullable = false)
+    private JsonNode payload;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+    
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    // 워커가 전송을 위해 가져간 시각 (워커 중단 시 회수 기준)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+    
+    public enum OutboxStatus {
+        PENDING,    // 전송 대기 (재시도 대기 포함)
+        SENDING,    // 워커가 전송 중
+        SENT,       // 전송 완료
+        DEAD        // 최대 재시도 초과
+    }
+    
+    public void markSending(LocalDateTime now) {
+        this.status = OutboxStatus.SENDING;
+        this.claimedAt = now;
+    }
+    
+    public void markSent(LocalDateTime now) {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+    
+    /**
+     * 전송 실패 처리 - 최대 시도 횟수 이내면 지수 백오프로 재시도 예약, 초과하면 DEAD
+     */
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, long backoffBaseSeconds) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.DEAD;
+            return;
+        }
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = now.plusSeconds(backoffBaseSeconds << Math.min(this.attempts - 1, 16));
+    }
+}
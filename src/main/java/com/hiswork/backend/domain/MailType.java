@@ -0,0 +1,21 @@
+package com.hiswork.backend.domain;
+
+public enum MailType {
+    EDITOR_ASSIGNMENT("편집자 할당 알림"),
+    REVIEWER_ASSIGNMENT("검토자 할당 알림"),
+    REJECTION("문서 반려 알림"),
+    ADMIN_MESSAGE("관리자 메시지"),
+    SIGNING_REQUEST("서명 요청"),
+    DEADLINE_REMINDER("마감일 임박 알림"),
+    DAILY_DIGEST("하루 요약 알림");
+    
+    private final String description;
+    
+    MailType(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
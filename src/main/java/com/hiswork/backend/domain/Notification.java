@@ -11,7 +11,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    // 읽지 않은 알림 목록/개수 조회용 (수신자별 최신순)
+    @Index(name = "idx_notifications_recipient_read_created", columnList = "recipient_user_id, is_read, created_at DESC"),
+    // 전체 알림 목록 키셋 페이지네이션용 (created_at, id)
+    @Index(name = "idx_notifications_recipient_created_id", columnList = "recipient_user_id, created_at DESC, id DESC")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,28 @@
+package com.hiswork.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (notifications 테이블을 매번 COUNT하지 않기 위한 비정규화 카운터) <br/>
+ * users 테이블과 분리하여 사용자 정보 저장 시 카운터가 덮어써지지 않도록 한다.
+ * 증감은 NotificationCounterRepository의 원자적 UPDATE로만 수행한다.
+ */
+@Entity
+@Table(name = "notification_counter")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id", length = 50)
+    private String userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
@@ -0,0 +1,45 @@
+package com.hiswork.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감일 알림 발송 기록 <br/>
+ * (문서, 수신자, 단계)당 한 번만 발송하도록 보장하여 재실행/장애 후 보충 발송을 멱등하게 만든다.
+ */
+@Entity
+@Table(name = "reminder_sent", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_reminder_sent_document_recipient_stage",
+            columnNames = {"document_id", "recipient_email", "stage"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderSent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    // 미가입 사용자도 기록할 수 있도록 이메일 기준
+    @Column(name = "recipient_email", nullable = false, length = 320)
+    private String recipientEmail;
+
+    // 알림 단계 (예: EDITING:D-3, SIGNING:D+1)
+    @Column(name = "stage", nullable = false, length = 30)
+    private String stage;
+
+    @CreationTimestamp
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
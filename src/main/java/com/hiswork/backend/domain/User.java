@@ -3,9 +3,12 @@ package com.hiswork.backend.domain;
 import com.hiswork.backend.dto.AuthDto;
 import jakarta.persistence.*;
 import lombok.*;
+
+import java.util.Objects;
+
 @Entity
 @Table(name = "users")
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -67,6 +70,16 @@ public class User {
     @Builder.Default
     private Boolean hasFolderAccess = false;
 
+    // 마감 알림/알림 메일 수신 방식 (즉시, 하루 요약)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mail_delivery_mode", length = 20)
+    @Builder.Default
+    private MailDeliveryMode mailDeliveryMode = MailDeliveryMode.IMMEDIATE;
+
+    // 마지막으로 하루 요약 메일을 보낸 날짜 (하루 한 통 보장)
+    @Column(name = "last_digest_date")
+    private java.time.LocalDate lastDigestDate;
+
 
     public static User from(AuthDto dto) {
         // grade 값에 따라 Position 결정
@@ -87,6 +100,32 @@ public class User {
     }
     
     
+    /**
+     * 히즈넷 프로필로 사용자 정보 갱신
+     * @return 바뀐 값이 있으면 true (없으면 저장할 필요 없음)
+     */
+    public boolean updateProfile(AuthDto dto) {
+        boolean changed = !Objects.equals(name, dto.getName())
+                || !Objects.equals(email, dto.getEmail())
+                || !Objects.equals(department, dto.getDepartment())
+                || !Objects.equals(major1, dto.getMajor1())
+                || !Objects.equals(major2, dto.getMajor2())
+                || !Objects.equals(grade, dto.getGrade())
+                || !Objects.equals(semester, dto.getSemester())
+                || position != determinePositionByGrade(dto.getGrade());
+        if (changed) {
+            this.name = dto.getName();
+            this.email = dto.getEmail();
+            this.department = dto.getDepartment();
+            this.major1 = dto.getMajor1();
+            this.major2 = dto.getMajor2();
+            this.grade = dto.getGrade();
+            this.semester = dto.getSemester();
+            this.position = determinePositionByGrade(dto.getGrade()); // 학년이 바뀌면 직분도 다시 결정
+        }
+        return changed;
+    }
+    
     // grade 값에 따라 Position을 결정
     private static Position determinePositionByGrade(Integer grade) {
         if (grade == null) {
@@ -3,6 +3,7 @@ package com.hiswork.backend.dto;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 public class BulkCommitRequest {
@@ -14,6 +15,10 @@ public class BulkCommitRequest {
     
     private LocalDateTime deadline; // 문서 마감일
     
+    // 엑셀 컬럼명 -> 템플릿 필드(id 또는 label) 매핑, 문서 생성 시 값을 미리 채움
+    // 기본 컬럼은 studentId, name, email, course 키로 지정 가능
+    private Map<String, String> fieldMapping;
+    
     public enum OnDuplicateAction {
         SKIP,         // 중복 건너뛰기
         UPDATE_TITLE, // 제목에 번호 추가 (예: "김철수_컴퓨터공학과 근무일지 (2)")
@@ -17,6 +17,7 @@ public class BulkPreviewResponse {
     private String status; // "UPLOADED" 등
     private String message;
     private List<String> warnings;
+    private List<String> extraColumns; // 필드 매핑에 사용할 수 있는 추가 컬럼명
     
     public static BulkPreviewResponse uploaded(String stagingId, String templateName, String filename, 
                                              int totalRows, int validRows, int invalidRows, List<String> warnings) {
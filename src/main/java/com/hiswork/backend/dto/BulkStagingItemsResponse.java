@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -25,6 +26,7 @@ public class BulkStagingItemsResponse {
         private String email;
         private String course;
         private String documentTitle;
+        private Map<String, String> extraData;
         private boolean isValid;
         private String validationError;
         private String processingStatus;
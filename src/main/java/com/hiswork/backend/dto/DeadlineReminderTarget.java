@@ -0,0 +1,46 @@
+package com.hiswork.backend.dto;
+
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.MailDeliveryMode;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감일 알림 대상 (문서 + 담당자) 조회 결과
+ * 미가입 담당자는 userId와 mailDeliveryMode가 null이며 임시 이메일/이름을 사용
+ */
+@Data
+@NoArgsConstructor
+public class DeadlineReminderTarget {
+    private Long roleId;
+    private Long documentId;
+    private String documentTitle;
+    private LocalDateTime deadline;
+    private DocumentRole.TaskRole taskRole;
+    private String userId;
+    private String recipientEmail;
+    private String recipientName;
+    private MailDeliveryMode mailDeliveryMode;
+
+    // 알림 단계 (조회 후 스케줄러에서 지정)
+    private String stage;
+
+    public DeadlineReminderTarget(Long roleId, Long documentId, String documentTitle, LocalDateTime deadline,
+                                  DocumentRole.TaskRole taskRole, String userId, String recipientEmail,
+                                  String recipientName, MailDeliveryMode mailDeliveryMode) {
+        this.roleId = roleId;
+        this.documentId = documentId;
+        this.documentTitle = documentTitle;
+        this.deadline = deadline;
+        this.taskRole = taskRole;
+        this.userId = userId;
+        this.recipientEmail = recipientEmail;
+        this.recipientName = recipientName;
+        this.mailDeliveryMode = mailDeliveryMode;
+    }
+
+    public boolean prefersDigest() {
+        return userId != null && mailDeliveryMode == MailDeliveryMode.DIGEST;
+    }
+}
@@ -1,8 +1,10 @@
 package com.hiswork.backend.dto;
 
+import com.hiswork.backend.domain.DocumentRole;
 import com.hiswork.backend.domain.User;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -96,5 +98,53 @@ public class MailRequest {
         String editorEmail;
         String editorName;
         ZonedDateTime deadline;
+        // 수신자의 담당 역할 (EDITOR, REVIEWER, SIGNER / 없으면 EDITOR)
+        DocumentRole.TaskRole taskRole;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SigningRequestEmailCommand {
+        String signerEmail;
+        String signerName;
+        String documentTitle;
+        String signingUrl;
+        LocalDateTime expiresAt;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyDigestEmailCommand {
+        String recipientEmail;
+        String recipientName;
+        List<ReminderItem> reminders;
+        List<NotificationItem> notifications;
+        // 목록에 담지 못하고 생략한 읽지 않은 알림 수
+        int omittedNotificationCount;
+
+        @Data
+        @Builder
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class ReminderItem {
+            Long documentId;
+            String documentTitle;
+            LocalDateTime deadline;
+        }
+
+        @Data
+        @Builder
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class NotificationItem {
+            String title;
+            String message;
+            String actionUrl;
+            LocalDateTime createdAt;
+        }
     }
 }
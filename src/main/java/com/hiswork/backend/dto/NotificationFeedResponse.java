@@ -0,0 +1,52 @@
+package com.hiswork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 기반 알림 목록 응답 <br/>
+ * 커서는 (생성 시각, ID)를 인코딩한 값으로, 클라이언트는 내용을 해석하지 않고 그대로 다음 요청에 넘긴다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFeedResponse {
+    private List<NotificationResponse> items;
+    private String nextCursor; // 다음 요청에 사용할 커서 (목록이 비어 있으면 요청한 커서 그대로)
+    private boolean hasMore;
+
+    /**
+     * 알림 목록 위치 (생성 시각, ID)
+     */
+    public record Cursor(LocalDateTime createdAt, Long id) {
+
+        public static Cursor of(NotificationResponse notification) {
+            return new Cursor(notification.getCreatedAt(), notification.getId());
+        }
+
+        public String encode() {
+            String raw = createdAt + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new RuntimeException("잘못된 알림 커서입니다: " + cursor);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.hiswork.backend.dto;
+
+import com.hiswork.backend.domain.Notification;
+import com.hiswork.backend.domain.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 목록 응답 (엔티티 대신 화면에 필요한 컬럼만 담음) <br/>
+ * NotificationRepository의 JPQL 생성자 조회에서 사용하므로 필드 순서를 바꾸면 쿼리도 함께 수정해야 함
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+    private Long id;
+    private String title;
+    private String message;
+    private NotificationType type;
+    private Boolean isRead;
+    private Long relatedDocumentId;
+    private String actionUrl;
+    private LocalDateTime createdAt;
+
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .isRead(notification.getIsRead())
+                .relatedDocumentId(notification.getRelatedDocumentId())
+                .actionUrl(notification.getActionUrl())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -2,10 +2,13 @@ package com.hiswork.backend.repository;
 
 import com.hiswork.backend.domain.BulkStagingItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -34,4 +37,14 @@ public interface BulkStagingItemRepository extends JpaRepository<BulkStagingItem
      */
     @Query("SELECT bsi.processingStatus, COUNT(bsi) FROM BulkStagingItem bsi WHERE bsi.staging.stagingId = :stagingId GROUP BY bsi.processingStatus")
     List<Object[]> countByProcessingStatus(@Param("stagingId") String stagingId);
+    
+    /**
+     * 만료된 스테이징의 아이템 일괄 삭제 (READY 상태로 기준 시각 이전에 생성된 스테이징만)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BulkStagingItem bsi WHERE bsi.staging.stagingId IN " +
+           "(SELECT bs.stagingId FROM BulkStaging bs " +
+           "WHERE bs.stagingId IN :stagingIds AND bs.status = 'READY' AND bs.createdAt < :before)")
+    int deleteExpiredByStagingIds(@Param("stagingIds") List<String> stagingIds, @Param("before") LocalDateTime before);
 }
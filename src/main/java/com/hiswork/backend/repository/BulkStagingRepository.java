@@ -3,9 +3,11 @@ package com.hiswork.backend.repository;
 import com.hiswork.backend.domain.BulkStaging;
 import com.hiswork.backend.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -44,4 +46,21 @@ public interface BulkStagingRepository extends JpaRepository<BulkStaging, String
             @Param("templateId") Long templateId, 
             @Param("creatorId") String creatorId);
 
+    /**
+     * 특정 시각 이전에 생성되어 커밋/취소되지 않은(READY) 스테이징 ID를 잠그고 조회 (만료 정리용)
+     * SKIP LOCKED로 커밋/취소 중인 스테이징은 건너뜀
+     */
+    @Query(value = "SELECT staging_id FROM bulk_staging " +
+                   "WHERE status = 'READY' AND created_at < :before " +
+                   "ORDER BY created_at LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<String> lockExpiredReadyStagingIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 만료된 스테이징 일괄 삭제 (아이템은 먼저 삭제해야 함, 그 사이 상태가 바뀐 스테이징은 제외)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BulkStaging bs WHERE bs.stagingId IN :stagingIds AND bs.status = 'READY' AND bs.createdAt < :before")
+    int deleteExpiredByStagingIds(@Param("stagingIds") List<String> stagingIds, @Param("before") LocalDateTime before);
 }
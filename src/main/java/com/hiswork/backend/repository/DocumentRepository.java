@@ -1,9 +1,15 @@
 package com.hiswork.backend.repository;
 
 import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.DocumentRole;
 import com.hiswork.backend.domain.Folder;
+import com.hiswork.backend.dto.DeadlineReminderTarget;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -91,12 +97,30 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     List<Document> findTodoDocumentsByUserId(@Param("userId") String userId);
     
     /**
-     * 특정 상태이고 마감일이 특정 범위 내에 있는 문서 조회
-     * (마감일 알림을 위한 메서드)
+     * 마감일 알림 대상 조회 (마감일 알림을 위한 메서드) <br/>
+     * 특정 상태이고 마감일이 [from, to) 범위인 문서의 담당자를 사용자 정보와 함께 한 번에 조회하며,
+     * 미가입 담당자는 임시 이메일/이름으로 반환. 해당 단계 알림을 이미 받은 대상은 제외하고,
+     * 담당자 ID(afterRoleId) 기준 키셋 페이징으로 나누어 조회
      */
-    List<Document> findByStatusAndDeadlineBetween(
-        Document.DocumentStatus status,
-        LocalDateTime startDateTime,
-        LocalDateTime endDateTime
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.hiswork.backend.dto.DeadlineReminderTarget(" +
+           "dr.id, d.id, d.title, d.deadline, dr.taskRole, u.id, " +
+           "COALESCE(u.email, dr.pendingEmail), COALESCE(u.name, dr.pendingName), u.mailDeliveryMode) " +
+           "FROM DocumentRole dr JOIN dr.document d " +
+           "LEFT JOIN User u ON u.id = dr.assignedUserId " +
+           "WHERE d.status = :status AND d.deadline >= :from AND d.deadline < :to " +
+           "AND dr.taskRole = :taskRole AND dr.id > :afterRoleId " +
+           "AND (u.email IS NOT NULL OR dr.pendingEmail IS NOT NULL) " +
+           "AND NOT EXISTS (SELECT 1 FROM ReminderSent rs WHERE rs.documentId = d.id " +
+           "AND rs.recipientEmail = COALESCE(u.email, dr.pendingEmail) AND rs.stage = :stage) " +
+           "ORDER BY dr.id")
+    List<DeadlineReminderTarget> findReminderTargets(
+        @Param("status") Document.DocumentStatus status,
+        @Param("taskRole") DocumentRole.TaskRole taskRole,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("stage") String stage,
+        @Param("afterRoleId") Long afterRoleId,
+        Pageable pageable
     );
 } 
\ No newline at end of file
@@ -2,10 +2,12 @@ package com.hiswork.backend.repository;
 
 import com.hiswork.backend.domain.DocumentRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,12 @@ public interface DocumentRoleRepository extends JpaRepository<DocumentRole, Long
     @Query("SELECT dr FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.assignedUserId = :userId")
     List<DocumentRole> findAllByDocumentAndUser(@Param("documentId") Long documentId, @Param("userId") String userId);
     
+    /**
+     * 사용자가 문서에서 가진 역할 목록 (권한 판단용, 역할만 조회)
+     */
+    @Query("SELECT dr.taskRole FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.assignedUserId = :userId")
+    List<DocumentRole.TaskRole> findTaskRolesByDocumentAndUser(@Param("documentId") Long documentId, @Param("userId") String userId);
+    
     @Query("SELECT dr FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.assignedUserId = :userId AND dr.taskRole = :taskRole")
     Optional<DocumentRole> findByDocumentAndUserAndRole(@Param("documentId") Long documentId, @Param("userId") String userId, @Param("taskRole") DocumentRole.TaskRole taskRole);
     
@@ -36,6 +44,16 @@ public interface DocumentRoleRepository extends JpaRepository<DocumentRole, Long
     @Query("SELECT dr FROM DocumentRole dr WHERE dr.pendingEmail = :pendingEmail AND dr.pendingEmail IS NOT NULL")
     List<DocumentRole> findByPendingEmail(@Param("pendingEmail") String pendingEmail);
 
+    /**
+     * 임시 할당(이메일 또는 학번)을 실제 사용자에게 한 번에 연결
+     * @return 연결된 역할 수
+     */
+    @Modifying
+    @Query("UPDATE DocumentRole dr SET dr.assignedUserId = :userId, dr.pendingEmail = NULL, dr.pendingName = NULL, " +
+           "dr.updatedAt = :now " +
+           "WHERE dr.pendingEmail IS NOT NULL AND (dr.pendingEmail = :email OR dr.assignedUserId = :userId)")
+    int linkPendingRoles(@Param("userId") String userId, @Param("email") String email, @Param("now") LocalDateTime now);
+    
     @Query("SELECT COUNT(dr) > 0 FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.taskRole = :taskRole")
     boolean existsByDocumentIdAndTaskRole(@Param("documentId") Long documentId, @Param("taskRole") DocumentRole.TaskRole taskRole);
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.domain.JobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /**
+     * 특정 시각 이후 다른 노드에서 이미 성공한 실행이 있는지 확인 (중복 실행 방지)
+     */
+    boolean existsByJobNameAndStatusAndStartedAtAfter(String jobName, JobRun.RunStatus status, LocalDateTime after);
+}
@@ -0,0 +1,35 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.domain.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    
+    /**
+     * 전송할 메일을 잠그고 조회
+     * SKIP LOCKED로 다른 워커가 잡은 행은 건너뛰므로 워커 수만큼 병렬 처리 가능
+     */
+    @Query(value = "SELECT * FROM mail_outbox " +
+                   "WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MailOutbox> lockPendingBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    /**
+     * 전송 중 워커가 중단되어 SENDING 상태로 남은 메일을 다시 대기 상태로 회수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MailOutbox m SET m.status = com.hiswork.backend.domain.MailOutbox$OutboxStatus.PENDING, m.claimedAt = null " +
+           "WHERE m.status = com.hiswork.backend.domain.MailOutbox$OutboxStatus.SENDING AND m.claimedAt < :before")
+    int releaseStaleClaims(@Param("before") LocalDateTime before);
+}
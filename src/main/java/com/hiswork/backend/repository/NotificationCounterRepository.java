@@ -0,0 +1,55 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.domain.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, String> {
+
+    /**
+     * 읽지 않은 알림 수 조회 (카운터가 없으면 empty)
+     */
+    @Query("SELECT c.unreadCount FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCount(@Param("userId") String userId);
+
+    /**
+     * 읽지 않은 알림 수 증감 (카운터가 아직 없으면 실제 읽지 않은 알림 수로 생성)
+     * 알림 변경을 먼저 반영(flush)한 뒤 호출해야 새로 생성되는 카운터 값이 맞음
+     */
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = "INSERT INTO notification_counter (user_id, unread_count) " +
+                   "SELECT :userId, COUNT(*) FROM notifications n WHERE n.recipient_user_id = :userId AND n.is_read = false " +
+                   "ON CONFLICT (user_id) DO UPDATE SET unread_count = GREATEST(notification_counter.unread_count + :delta, 0)",
+           nativeQuery = true)
+    int addUnreadCount(@Param("userId") String userId, @Param("delta") long delta);
+
+    /**
+     * 읽지 않은 알림 수 지정 (없으면 생성)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO notification_counter (user_id, unread_count) VALUES (:userId, :count) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count", nativeQuery = true)
+    int setUnreadCount(@Param("userId") String userId, @Param("count") long count);
+
+    /**
+     * 모든 카운터를 실제 읽지 않은 알림 수로 보정
+     * @return 값이 달라 보정한 카운터 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE notification_counter c SET unread_count = actual.cnt " +
+                   "FROM (SELECT c2.user_id, " +
+                   "      (SELECT COUNT(*) FROM notifications n WHERE n.recipient_user_id = c2.user_id AND n.is_read = false) AS cnt " +
+                   "      FROM notification_counter c2) actual " +
+                   "WHERE c.user_id = actual.user_id AND c.unread_count <> actual.cnt", nativeQuery = true)
+    int reconcileAll();
+}
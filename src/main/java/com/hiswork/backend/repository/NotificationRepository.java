@@ -1,14 +1,19 @@
 package com.hiswork.backend.repository;
 
+import com.hiswork.backend.domain.MailDeliveryMode;
 import com.hiswork.backend.domain.Notification;
 import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.NotificationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -20,13 +25,104 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 특정 사용자의 알림 조회 (페이지네이션)
     Page<Notification> findByRecipientUserOrderByCreatedAtDesc(User recipientUser, Pageable pageable);
     
-    // 특정 사용자의 읽지 않은 알림 조회
-    List<Notification> findByRecipientUserAndIsReadFalseOrderByCreatedAtDesc(User recipientUser);
-    
     // 특정 사용자의 읽지 않은 알림 개수
     long countByRecipientUserAndIsReadFalse(User recipientUser);
     
     // 특정 사용자의 최근 N개 알림 조회
     @Query("SELECT n FROM Notification n WHERE n.recipientUser = :user ORDER BY n.createdAt DESC LIMIT :limit")
     List<Notification> findRecentNotifications(@Param("user") User user, @Param("limit") int limit);
-}
\ No newline at end of file
+    
+    String FEED_SELECT = "SELECT new com.hiswork.backend.dto.NotificationResponse(" +
+            "n.id, n.title, n.message, n.type, n.isRead, n.relatedDocumentId, n.actionUrl, n.createdAt) " +
+            "FROM Notification n ";
+    
+    /**
+     * 알림 목록 첫 페이지 조회 (최신순, 키셋 페이지네이션) <br/>
+     * 호출자는 다음 페이지 여부 확인을 위해 Pageable로 (size + 1)개를 요청
+     */
+    @Query(FEED_SELECT +
+           "WHERE n.recipientUser.id = :userId " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findFeed(@Param("userId") String userId, Pageable pageable);
+    
+    /**
+     * 커서 (createdAt, id) 이전 알림 조회 (최신순)
+     */
+    @Query(FEED_SELECT +
+           "WHERE n.recipientUser.id = :userId " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findFeedBefore(@Param("userId") String userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+    
+    /**
+     * 읽지 않은 알림 첫 페이지 조회 (최신순)
+     */
+    @Query(FEED_SELECT +
+           "WHERE n.recipientUser.id = :userId AND n.isRead = false " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findUnreadFeed(@Param("userId") String userId, Pageable pageable);
+    
+    /**
+     * 커서 (createdAt, id) 이전의 읽지 않은 알림 조회 (최신순)
+     */
+    @Query(FEED_SELECT +
+           "WHERE n.recipientUser.id = :userId AND n.isRead = false " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findUnreadFeedBefore(@Param("userId") String userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+    
+    /**
+     * 커서 (createdAt, id) 이후 새로 생긴 알림 조회 (오래된 순) <br/>
+     * SSE 재연결 시 놓친 알림만 가져오는 용도
+     */
+    @Query(FEED_SELECT +
+           "WHERE n.recipientUser.id = :userId " +
+           "AND (n.createdAt > :createdAt OR (n.createdAt = :createdAt AND n.id > :id)) " +
+           "ORDER BY n.createdAt ASC, n.id ASC")
+    List<NotificationResponse> findFeedAfter(@Param("userId") String userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+    
+    /**
+     * 하루 요약 대상 알림 조회 <br/>
+     * 요약 메일을 받는 사용자의 읽지 않은 알림 중 since 이후 생성된 것을 수신자별로 묶어 조회
+     */
+    @Query("SELECT n FROM Notification n JOIN FETCH n.recipientUser u " +
+           "WHERE n.isRead = false AND n.createdAt >= :since AND u.mailDeliveryMode = :mode " +
+           "ORDER BY u.id, n.createdAt DESC")
+    List<Notification> findUnreadForDigest(@Param("since") LocalDateTime since,
+                                           @Param("mode") MailDeliveryMode mode);
+    
+    /**
+     * 특정 사용자의 읽지 않은 알림 일괄 읽음 처리
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now WHERE n.recipientUser = :user AND n.isRead = false")
+    int markAllAsReadByRecipientUser(@Param("user") User user, @Param("now") LocalDateTime now);
+    
+    /**
+     * 특정 사용자의 모든 알림 일괄 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.recipientUser = :user")
+    int deleteAllByRecipientUser(@Param("user") User user);
+    
+    /**
+     * 보관 기간이 지난 읽은 알림을 batchSize만큼 삭제 (정리 작업용)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notifications WHERE id IN (" +
+                   "SELECT id FROM notifications WHERE is_read = true AND created_at < :before ORDER BY id LIMIT :batchSize)",
+           nativeQuery = true)
+    int deleteReadBefore(@Param("before") LocalDateTime before, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,9 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.domain.ReminderSent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReminderSentRepository extends JpaRepository<ReminderSent, Long> {
+}
@@ -2,9 +2,11 @@ package com.hiswork.backend.repository;
 
 import com.hiswork.backend.domain.SigningToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,9 +32,12 @@ public interface SigningTokenRepository extends JpaRepository<SigningToken, Stri
     List<SigningToken> findExpiredTokens(@Param("now") LocalDateTime now);
     
     /**
-     * 오래된 사용 완료 토큰 삭제
+     * 오래된 사용 완료 토큰 일괄 삭제
      */
-    void deleteByExpiresAtBeforeAndUsedTrue(LocalDateTime date);
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SigningToken st WHERE st.expiresAt < :date AND st.used = true")
+    int deleteByExpiresAtBeforeAndUsedTrue(@Param("date") LocalDateTime date);
     
     /**
      * 문서 ID로 모든 토큰 조회
@@ -0,0 +1,38 @@
+package com.hiswork.backend.security;
+
+import com.hiswork.backend.domain.Position;
+import com.hiswork.backend.domain.Role;
+import com.hiswork.backend.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SecurityContext에 보관하는 인증 사용자 정보 (권한 판단에 필요한 값만 담음)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AuthPrincipal {
+    private final String id;
+    private final String email;
+    private final String name;
+    private final Position position;
+    private final Role role;
+    private final boolean folderAccess;
+
+    public static AuthPrincipal from(User user) {
+        return AuthPrincipal.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .position(user.getPosition())
+                .role(user.getRole())
+                .folderAccess(user.canAccessFolders())
+                .build();
+    }
+
+    public boolean canAccessFolders() {
+        return folderAccess;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hiswork.backend.security;
+
+import com.hiswork.backend.annotation.CurrentUser;
+import com.hiswork.backend.domain.User;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * @CurrentUser 파라미터에 JwtAuthenticationFilter가 저장한 인증 정보를 주입 (DB 조회/토큰 파싱 없음)
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (type == AuthPrincipal.class || type == User.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !(authentication.getPrincipal() instanceof AuthPrincipal principal)
+                || !(authentication.getDetails() instanceof User user)) {
+            if (parameter.getParameterAnnotation(CurrentUser.class).required()) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+            }
+            return null;
+        }
+
+        // User는 요청 안에서 변경해도 다른 곳에 영향이 없도록 복사본 전달
+        return parameter.getParameterType() == User.class ? user.toBuilder().build() : principal;
+    }
+}
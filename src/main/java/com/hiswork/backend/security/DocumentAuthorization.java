@@ -0,0 +1,101 @@
+package com.hiswork.backend.security;
+
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.DocumentRole.TaskRole;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.repository.DocumentRoleRepository;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 문서 역할 기반 권한 판단 <br/>
+ * 사용자가 문서에서 가진 역할을 쿼리 한 번으로 모두 읽어 요청 동안 기억하고, 역할 판단은 메모리에서 처리한다.
+ * 요청 밖(스케줄러, 비동기 작업)에서는 기억하지 않고 매번 조회한다.
+ * 역할이 추가/변경/삭제되면 DocumentRoleChangeListener가 현재 요청의 기억을 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentAuthorization {
+
+    private static final String MEMO_ATTRIBUTE = DocumentAuthorization.class.getName() + ".roles";
+
+    private final DocumentRoleRepository documentRoleRepository;
+
+    public boolean isCreator(Document document, User user) {
+        return hasRole(document, user, TaskRole.CREATOR);
+    }
+
+    public boolean isEditor(Document document, User user) {
+        return hasRole(document, user, TaskRole.EDITOR);
+    }
+
+    public boolean isReviewer(Document document, User user) {
+        return hasRole(document, user, TaskRole.REVIEWER);
+    }
+
+    public boolean isSigner(Document document, User user) {
+        return hasRole(document, user, TaskRole.SIGNER);
+    }
+
+    public boolean hasRole(Document document, User user, TaskRole taskRole) {
+        return rolesOf(document.getId(), user.getId()).contains(taskRole);
+    }
+
+    public boolean hasAnyRole(Document document, User user, TaskRole... taskRoles) {
+        Set<TaskRole> roles = rolesOf(document.getId(), user.getId());
+        for (TaskRole taskRole : taskRoles) {
+            if (roles.contains(taskRole)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자가 문서에서 가진 역할 목록 (요청 안에서는 문서/사용자별로 한 번만 조회)
+     */
+    public Set<TaskRole> rolesOf(Long documentId, String userId) {
+        Map<String, Set<TaskRole>> memo = currentMemo();
+        if (memo == null) {
+            return loadRoles(documentId, userId);
+        }
+        return memo.computeIfAbsent(documentId + ":" + userId, key -> loadRoles(documentId, userId));
+    }
+
+    /**
+     * 현재 요청에서 기억한 역할 모두 비우기 (역할 변경 시 호출)
+     */
+    public static void clearCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private Set<TaskRole> loadRoles(Long documentId, String userId) {
+        Set<TaskRole> roles = EnumSet.noneOf(TaskRole.class);
+        roles.addAll(documentRoleRepository.findTaskRolesByDocumentAndUser(documentId, userId));
+        return roles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Set<TaskRole>> currentMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Set<TaskRole>> memo =
+                (Map<String, Set<TaskRole>>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hiswork.backend.security;
+
+import com.hiswork.backend.domain.DocumentRole;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * 문서 역할이 바뀌면 현재 요청에서 기억한 권한 판단을 비우는 엔티티 리스너
+ * 추가/삭제는 save/delete 호출 시점에, 변경은 flush 시점에 호출된다.
+ */
+public class DocumentRoleChangeListener {
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    void onChange(DocumentRole documentRole) {
+        DocumentAuthorization.clearCurrentRequest();
+    }
+}
@@ -0,0 +1,53 @@
+package com.hiswork.backend.security;
+
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.util.AuthUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청당 한 번 JWT를 검증하고 인증 정보를 SecurityContext에 저장하는 필터 <br/>
+ * principal은 AuthPrincipal, details는 조회한 User이며, 컨트롤러와 AOP는 토큰을 다시 파싱하지 않고 이 값을 읽는다.
+ * 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘기고, 접근 허용 여부는 SecurityFilterChain 설정이 결정한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final AuthUtil authUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = authUtil.extractTokenFromRequest(request);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                User user = authUtil.authenticate(token);
+                AuthPrincipal principal = AuthPrincipal.from(user);
+
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole().name())));
+                authentication.setDetails(user);
+
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            } catch (RuntimeException e) {
+                log.debug("JWT 인증 실패: {} {} - {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,23 +1,24 @@
 package com.hiswork.backend.service;
 
 import com.hiswork.backend.domain.User;
-import com.hiswork.backend.domain.DocumentRole;
 import com.hiswork.backend.dto.*;
 import com.hiswork.backend.repository.UserRepository;
 import com.hiswork.backend.repository.DocumentRoleRepository;
+import com.hiswork.backend.security.DocumentAuthorization;
+import com.hiswork.backend.util.AuthCache;
 import com.hiswork.backend.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
 
- import java.security.Key;
  import java.util.Optional;
 @Service
 @Transactional(readOnly = true)
@@ -29,9 +30,22 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final DocumentRoleRepository documentRoleRepository;
-
-    @Value("${jwt.secret_key}")
-    private String SECRET_KEY;
+    private final AuthCache authCache;
+    private final MeterRegistry meterRegistry;
+
+    // 로그인 구간별 소요 시간 (전체 요청 시간은 http.server.requests, 히즈넷 호출은 http.client.requests)
+    private Timer passwordMatchTimer;
+    private Timer loginTokenTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        passwordMatchTimer = Timer.builder("auth.password.match")
+                .description("비밀번호 해시 비교 시간 (BCrypt)")
+                .register(meterRegistry);
+        loginTokenTimer = Timer.builder("auth.token.issue")
+                .description("히즈넷 로그인 JWT 발급 시간")
+                .register(meterRegistry);
+    }
 
     public User getLoginUser(String id) {
         return userRepository.findById(id)
@@ -99,7 +113,7 @@ public class AuthService {
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 이메일입니다"));
 
         // 비밀번호 확인 (해시된 비밀번호와 평문 비밀번호 비교)
-        if(!passwordEncoder.matches(request.getPassword(), user.getPassword())){
+        if(!passwordMatchTimer.record(() -> passwordEncoder.matches(request.getPassword(), user.getPassword()))){
             throw new RuntimeException("비밀번호가 일치하지 않습니다");
         }
 
@@ -110,32 +124,16 @@ public class AuthService {
     }
 
     /**
-     * 회원가입 시 임시 할당된 문서들을 실제 사용자에게 연결
+     * 회원가입/첫 로그인 시 임시 할당된 문서들을 실제 사용자에게 연결
+     * 이메일 또는 ID(학번, assignedUserId에 저장됨)로 임시 할당된 역할을 UPDATE 한 번으로 전환
      */
     private int linkPendingDocuments(User newUser) {
-        List<DocumentRole> pendingRoles = new ArrayList<>();
-        
-        // 이메일로 임시 할당된 문서들 검색
-        pendingRoles.addAll(documentRoleRepository.findByPendingEmail(newUser.getEmail()));
-        
-        // ID(학번)로 임시 할당된 문서들 검색 (assignedUserId에 저장됨)
-        if (newUser.getId() != null) {
-            pendingRoles.addAll(documentRoleRepository.findByPendingUserId(newUser.getId()));
+        int linkedCount = documentRoleRepository.linkPendingRoles(newUser.getId(), newUser.getEmail(), LocalDateTime.now());
+        if (linkedCount > 0) {
+            // 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 현재 요청의 권한 판단 기억을 직접 비움
+            DocumentAuthorization.clearCurrentRequest();
+            log.info("임시 할당 문서 역할 {}개를 사용자에게 연결: {}", linkedCount, newUser.getId());
         }
-        
-        int linkedCount = 0;
-        for (DocumentRole role : pendingRoles) {
-            // 임시 할당을 실제 사용자로 전환
-            role.setAssignedUserId(newUser.getId());
-            role.setPendingEmail(null);
-            role.setPendingName(null);
-            
-            documentRoleRepository.save(role);
-            
-            linkedCount++;
-            log.info("임시 할당 문서를 실제 사용자에게 연결: {} -> {}", role.getDocument().getTitle(), newUser.getEmail());
-        }
-        
         return linkedCount;
     }
 
@@ -144,19 +142,28 @@ public class AuthService {
     public AuthDto login(AuthDto authDto) {
         // 사용자 찾기
         Optional<User> user = userRepository.findById(authDto.getUniqueId());
-        User loggedInUser = user.orElseGet(() -> User.from(authDto));
-        userRepository.save(loggedInUser);
-
-        Key key = JwtUtil.getSigningKey(SECRET_KEY);
+        User loggedInUser;
+        if (user.isEmpty()) {
+            // 첫 로그인이면 사용자 생성 후 가입 전에 임시 할당된 문서들을 연결
+            loggedInUser = userRepository.save(User.from(authDto));
+            linkPendingDocuments(loggedInUser);
+        } else {
+            // 히즈넷 프로필이 바뀐 경우에만 갱신 (변경 없으면 쓰기 없음)
+            loggedInUser = user.get();
+            if (loggedInUser.updateProfile(authDto)) {
+                authCache.evictUser(loggedInUser.getId());
+                log.info("히즈넷 프로필 변경 반영: {}", loggedInUser.getId());
+            }
+        }
 
-        String accessToken_hiswork = JwtUtil.createToken(
+        String accessToken_hiswork = loginTokenTimer.record(() -> JwtUtil.createToken(
                 loggedInUser.getId(),
                 loggedInUser.getName(),
                 loggedInUser.getDepartment(),
-                key
-        );
+                jwtUtil.getAccessTokenKey()
+        ));
 
-        log.info("✅ Generated AccessToken: {}", accessToken_hiswork);
+        log.debug("AccessToken 발급 완료: {}", loggedInUser.getId());
 
         // JWT 토큰과 사용자 정보 반환
         return AuthDto.builder()
@@ -7,12 +7,15 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.hiswork.backend.domain.*;
 import com.hiswork.backend.dto.*;
 import com.hiswork.backend.repository.*;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -22,7 +25,13 @@ import java.util.stream.Collectors;
 @Transactional
 public class BulkDocumentService {
     
-    private static final int MAX_ROWS = 500;
+    // 업로드 파일 하나의 최대 행 수
+    @Value("${app.bulk.max-rows:500}")
+    private int maxRows;
+    
+    // 파일 파싱 및 스테이징 아이템 저장 단위
+    @Value("${app.bulk.chunk-size:100}")
+    private int chunkSize;
     
     private final ExcelParsingService excelParsingService;
     private final BulkStagingRepository bulkStagingRepository;
@@ -34,32 +43,18 @@ public class BulkDocumentService {
     private final DocumentStatusLogRepository documentStatusLogRepository;
     private final ObjectMapper objectMapper;
     private final MailService mailService;
+    private final EntityManager entityManager;
 
     // 엑셀 파일 업로드 및 데이터 임시저장
     public BulkPreviewResponse createPreview(MultipartFile file, Long templateId, User creator) {
         log.info("대량 업로드 시작 - 사용자 메일: {}, 템플릿: {}", creator.getEmail(), templateId);
+        long startedAt = System.nanoTime();
         
         // 1. 템플릿 조회
         Template template = templateRepository.findById(templateId)
                 .orElseThrow(() -> new RuntimeException("템플릿을 찾을 수 없습니다: " + templateId));
         
-        // 2. 파일 파싱
-        List<ExcelParsingService.StudentRecord> records;
-        try {
-            records = excelParsingService.parseFile(file);
-        } catch (Exception e) {
-            throw new RuntimeException("파일 파싱 실패: " + e.getMessage(), e);
-        }
-        
-        if (records.isEmpty()) {
-            throw new RuntimeException("파일에 유효한 데이터가 없습니다");
-        }
-        
-        if (records.size() > MAX_ROWS) {
-            throw new RuntimeException(String.format("최대 %d행까지 처리할 수 있습니다. 현재: %d행", MAX_ROWS, records.size()));
-        }
-        
-        // 3. 스테이징 생성
+        // 2. 스테이징 생성 (아이템을 chunk 단위로 바로 저장하기 위해 먼저 저장)
         String stagingId = UUID.randomUUID().toString();
         
         BulkStaging staging = BulkStaging.builder()
@@ -67,78 +62,96 @@ public class BulkDocumentService {
                 .creator(creator)
                 .template(template)
                 .originalFilename(file.getOriginalFilename())
-                .totalRows(records.size())
+                .totalRows(0)
                 .build();
+        BulkStaging savedStaging = bulkStagingRepository.save(staging);
         
-        // 4. 각 레코드 검증 및 스테이징 아이템 생성
-        List<BulkStagingItem> items = new ArrayList<>();
+        // 3. 파일을 chunk 단위로 읽으면서 검증 및 스테이징 아이템 저장
         List<String> warnings = new ArrayList<>();
-        int validCount = 0;
-        int invalidCount = 0;
-        
-        
-        for (int i = 0; i < records.size(); i++) {
-            ExcelParsingService.StudentRecord record = records.get(i);
-            int rowNumber = i + 2; // Excel 행 번호 (헤더 제외)
-            
-            String documentTitle = generateDocumentTitle(record);
-            boolean isValid = record.isValid();
-            String validationError = null;
-            
-            // 유효성 검증
-            if (!isValid) {
-                validationError = record.getValidationError();
-            } 
-            
-            if (isValid) {
-                validCount++;
-            } else {
-                invalidCount++;
-            }
-            
-            BulkStagingItem item = BulkStagingItem.builder()
-                    .staging(staging)
-                    .rowNumber(rowNumber)
-                    .studentId(record.getStudentId())
-                    .name(record.getName())
-                    .email(record.getEmail())
-                    .course(record.getCourse())
-                    .documentTitle(documentTitle)
-                    .isValid(isValid)
-                    .validationError(validationError)
-                    .build();
-            
-            items.add(item);
+        int[] counts = new int[2]; // [유효, 무효]
+        Set<String> extraColumns = new LinkedHashSet<>();
+        int totalRows;
+        
+        try {
+            totalRows = excelParsingService.streamFile(file, chunkSize, maxRows, chunk -> {
+                int rowOffset = counts[0] + counts[1];
+                List<BulkStagingItem> items = new ArrayList<>(chunk.size());
+                
+                for (int i = 0; i < chunk.size(); i++) {
+                    ExcelParsingService.StudentRecord record = chunk.get(i);
+                    int rowNumber = rowOffset + i + 2; // Excel 행 번호 (헤더 제외)
+                    
+                    extraColumns.addAll(record.getExtraColumns().keySet());
+                    boolean isValid = record.isValid();
+                    if (isValid) {
+                        counts[0]++;
+                    } else {
+                        counts[1]++;
+                    }
+                    
+                    items.add(BulkStagingItem.builder()
+                            .staging(savedStaging)
+                            .rowNumber(rowNumber)
+                            .studentId(record.getStudentId())
+                            .name(record.getName())
+                            .email(record.getEmail())
+                            .course(record.getCourse())
+                            .documentTitle(generateDocumentTitle(record))
+                            .extraData(record.getExtraColumns().isEmpty() ? null : record.getExtraColumns())
+                            .isValid(isValid)
+                            .validationError(isValid ? null : record.getValidationError())
+                            .build());
+                }
+                
+                // chunk 단위로 저장 후 영속성 컨텍스트에서 분리하여 메모리 사용량을 chunk 크기로 제한
+                bulkStagingItemRepository.saveAll(items);
+                bulkStagingItemRepository.flush();
+                items.forEach(entityManager::detach);
+            });
+        } catch (IllegalStateException e) {
+            // 최대 행 수 초과
+            throw new RuntimeException(e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("파일 파싱 실패: " + e.getMessage(), e);
         }
         
-        // 중복 제목 허용: 경고 추가 없음
+        if (totalRows == 0) {
+            throw new RuntimeException("파일에 유효한 데이터가 없습니다");
+        }
         
-        // 5. 스테이징 정보 업데이트 및 저장
-        staging.setValidRows(validCount);
-        staging.setInvalidRows(invalidCount);
-        staging = bulkStagingRepository.save(staging);
+        int validCount = counts[0];
+        int invalidCount = counts[1];
         
-        // 아이템들 저장
-        bulkStagingItemRepository.saveAll(items);
+        // 중복 제목 허용: 경고 추가 없음
+        
+        // 4. 스테이징 정보 업데이트 및 저장
+        savedStaging.setTotalRows(totalRows);
+        savedStaging.setValidRows(validCount);
+        savedStaging.setInvalidRows(invalidCount);
+        bulkStagingRepository.save(savedStaging);
         
         log.info("파일 업로드 완료 - 스테이징 ID: {}, 전체: {}, 유효: {}, 무효: {}", 
-                stagingId, records.size(), validCount, invalidCount);
+                stagingId, totalRows, validCount, invalidCount);
+        logThroughput("preview", totalRows, startedAt);
         
-        // 6. 응답 생성
-        return BulkPreviewResponse.uploaded(
+        // 5. 응답 생성
+        BulkPreviewResponse response = BulkPreviewResponse.uploaded(
                 stagingId,
                 template.getName(),
                 file.getOriginalFilename(),
-                records.size(),
+                totalRows,
                 validCount,
                 invalidCount,
                 warnings
         );
+        response.setExtraColumns(new ArrayList<>(extraColumns));
+        return response;
     }
 
     // 엑셀 파일 문서 생성 확정 (preview -> commit)
     public BulkCommitResponse commitBulkCreation(BulkCommitRequest request, User creator) {
         log.info("대량 문서 생성 확정 시작 - 스테이징 ID: {}, 사용자: {}", request.getStagingId(), creator.getEmail());
+        long startedAt = System.nanoTime();
         
         // 1. 스테이징 조회 및 권한 확인
         log.info("스테이징 조회 시도 - 스테이징 ID: {}, 사용자 ID: {}", request.getStagingId(), creator.getId());
@@ -167,15 +180,19 @@ public class BulkDocumentService {
         // 2. 처리 가능한 아이템들 조회
         List<BulkStagingItem> processableItems = bulkStagingItemRepository.findProcessableItems(request.getStagingId());
         
+        // 템플릿 필드 정보와 컬럼 매핑은 커밋마다 한 번만 해석
+        PrefillPlan prefillPlan = buildPrefillPlan(staging.getTemplate(), request.getFieldMapping());
+        
         int created = 0;
         int skipped = 0;
         int failed = 0;
         List<BulkCommitResponse.CommitItem> commitItems = new ArrayList<>();
+        List<MailRequest.EditorAssignmentEmailCommand> mailQueue = new ArrayList<>();
         
         // 3. 각 아이템 처리
         for (BulkStagingItem item : processableItems) {
             try {
-                BulkCommitResponse.CommitItem commitItem = processItem(item, staging.getTemplate(), creator, request.getOnDuplicate(), request.getDeadline());
+                BulkCommitResponse.CommitItem commitItem = processItem(item, staging.getTemplate(), prefillPlan, creator, request.getOnDuplicate(), request.getDeadline(), mailQueue);
                 commitItems.add(commitItem);
                 
                 switch (commitItem.getStatus()) {
@@ -210,7 +227,18 @@ public class BulkDocumentService {
         staging.setStatus(BulkStaging.StagingStatus.COMMITTED);
         bulkStagingRepository.save(staging);
 
+        // 5. 편집자 할당 메일 일괄 전송 (SMTP 연결 하나로 전송 속도 제한)
+        if (!mailQueue.isEmpty()) {
+            try {
+                mailService.sendAssignEditorNotificationsInBatch(mailQueue);
+            } catch (Exception e) {
+                // 메일 전송 실패는 문서 생성에 영향을 주지 않도록 로그만 남김
+                log.error("편집자 할당 메일 일괄 전송 요청 실패 - {}건", mailQueue.size(), e);
+            }
+        }
+
         log.info("대량 문서 생성 완료 - 생성: {}, 건너뜀: {}, 실패: {}", created, skipped, failed);
+        logThroughput("commit", processableItems.size(), startedAt);
         
         return BulkCommitResponse.builder()
                 .created(created)
@@ -268,15 +296,35 @@ public class BulkDocumentService {
         
         return BulkCancelResponse.canceled();
     }
+
+    /**
+     * 만료된(READY 상태로 TTL이 지난) 스테이징 한 배치를 아이템과 함께 한 트랜잭션에서 삭제 <br/>
+     * 대상 스테이징을 SKIP LOCKED로 잠근 뒤 삭제하므로, 그 사이 커밋/취소되는 스테이징은 건너뜀
+     */
+    public StagingCleanupResult deleteExpiredStagingBatch(LocalDateTime before, int batchSize) {
+        List<String> stagingIds = bulkStagingRepository.lockExpiredReadyStagingIds(before, batchSize);
+        if (stagingIds.isEmpty()) {
+            return new StagingCleanupResult(0, 0, 0);
+        }
+
+        int deletedItems = bulkStagingItemRepository.deleteExpiredByStagingIds(stagingIds, before);
+        int deletedStagings = bulkStagingRepository.deleteExpiredByStagingIds(stagingIds, before);
+        return new StagingCleanupResult(stagingIds.size(), deletedStagings, deletedItems);
+    }
+
+    // 만료 정리 배치 결과 (잠근 스테이징 수, 삭제한 스테이징 수, 삭제한 아이템 수)
+    public record StagingCleanupResult(int locked, int deletedStagings, int deletedItems) {
+    }
     
     // 학생 개별 정보 처리
-    private BulkCommitResponse.CommitItem processItem(BulkStagingItem item, Template template, User creator,
-                                                     BulkCommitRequest.OnDuplicateAction onDuplicate, java.time.LocalDateTime deadline) {
+    private BulkCommitResponse.CommitItem processItem(BulkStagingItem item, Template template, PrefillPlan prefillPlan, User creator,
+                                                     BulkCommitRequest.OnDuplicateAction onDuplicate, java.time.LocalDateTime deadline,
+                                                     List<MailRequest.EditorAssignmentEmailCommand> mailQueue) {
         
         String documentTitle = item.getDocumentTitle();
         
-        // 문서 생성
-        ObjectNode initialData = initializeDocumentData(template);
+        // 문서 생성 (매핑된 컬럼 값으로 필드 미리 채움)
+        ObjectNode initialData = initializeDocumentData(prefillPlan, item);
         
         // deadline이 제공되면 사용하고, 없으면 템플릿의 deadline 사용
         java.time.LocalDateTime finalDeadline = deadline != null ? deadline : template.getDeadline();
@@ -334,28 +382,16 @@ public class BulkDocumentService {
         log.info("대량 문서 생성 - 문서 ID: {}, 제목: {}, 편집자: {} ({})", 
                 document.getId(), documentTitle, item.getName(), item.getEmail());
         
-        // 모든 사용자에게 편집자 할당 메일 전송 (등록/미등록 모두)
-        try {
-            String editorEmail = item.getEmail();
-            String editorName = existingUser.isPresent() ? existingUser.get().getName() : item.getName();
-            
-            mailService.sendAssignEditorNotification(MailRequest.EditorAssignmentEmailCommand.builder()
-                    .documentTitle(document.getTitle())
-                    .creatorName(creator.getName())
-                    .editorEmail(editorEmail)
-                    .editorName(editorName)
-                    .dueDate(document.getDeadline() != null ? document.getDeadline().atZone(java.time.ZoneId.systemDefault()) : null)
-                    .build());
-            
-            if (existingUser.isPresent()) {
-                log.info("편집자 할당 메일 전송 완료 (등록 사용자) - 문서: {}, 편집자: {}", document.getTitle(), editorEmail);
-            } else {
-                log.info("편집자 할당 메일 전송 완료 (미등록 사용자) - 문서: {}, 편집자: {}", document.getTitle(), editorEmail);
-            }
-        } catch (Exception e) {
-            log.error("편집자 할당 메일 전송 실패 - 문서: {}, 편집자: {}", document.getTitle(), item.getEmail(), e);
-            // 메일 전송 실패는 문서 생성에 영향을 주지 않도록 로그만 남김
-        }
+        // 모든 사용자에게 편집자 할당 메일 전송 (등록/미등록 모두) - 커밋 종료 후 일괄 전송
+        String editorName = existingUser.isPresent() ? existingUser.get().getName() : item.getName();
+        mailQueue.add(MailRequest.EditorAssignmentEmailCommand.builder()
+                .documentId(document.getId())
+                .documentTitle(document.getTitle())
+                .creatorName(creator.getName())
+                .editorEmail(item.getEmail())
+                .editorName(editorName)
+                .dueDate(document.getDeadline() != null ? document.getDeadline().atZone(java.time.ZoneId.systemDefault()) : null)
+                .build());
         
         // 아이템 상태 업데이트
         item.setProcessingStatus(BulkStagingItem.ProcessingStatus.CREATED);
@@ -377,36 +413,100 @@ public class BulkDocumentService {
     
     // === 유틸리티 메서드들 ===
 
-    private ObjectNode initializeDocumentData(Template template) {
-        ObjectNode data = objectMapper.createObjectNode();
+    /**
+     * 템플릿 coordinateFields를 파싱하고, 컬럼 매핑을 필드 위치 기준으로 변환 <br/>
+     * 매핑 대상은 필드 id를 먼저 찾고, 없으면 label로 찾음
+     */
+    private PrefillPlan buildPrefillPlan(Template template, Map<String, String> fieldMapping) {
+        ArrayNode templateFields = null;
 
         // 템플릿에서 coordinateFields 복사 (레거시 지원용)
         if (template.getCoordinateFields() != null && !template.getCoordinateFields().trim().isEmpty()) {
             try {
                 JsonNode coordinateFieldsJson = objectMapper.readTree(template.getCoordinateFields());
                 if (coordinateFieldsJson.isArray()) {
-                    // coordinateFields를 값만 빈 상태로 복사
-                    ArrayNode fieldsArray = objectMapper.createArrayNode();
-                    for (JsonNode field : coordinateFieldsJson) {
-                        ObjectNode fieldCopy = field.deepCopy();
-                        fieldCopy.put("value", ""); // 값은 빈 문자열로 초기화
-                        fieldsArray.add(fieldCopy);
-                    }
-                    data.set("coordinateFields", fieldsArray);
-                    log.info("문서 생성 시 템플릿의 coordinateFields 복사: {} 개 필드", fieldsArray.size());
+                    templateFields = (ArrayNode) coordinateFieldsJson;
                 }
             } catch (Exception e) {
                 log.warn("템플릿 coordinateFields 파싱 실패: {}", e.getMessage());
             }
         }
 
+        Map<Integer, String> columnByFieldIndex = new HashMap<>();
+        if (templateFields != null && fieldMapping != null) {
+            for (Map.Entry<String, String> mapping : fieldMapping.entrySet()) {
+                int fieldIndex = findFieldIndex(templateFields, mapping.getValue());
+                if (fieldIndex < 0) {
+                    log.warn("매핑 대상 템플릿 필드를 찾을 수 없습니다 - 컬럼: {}, 필드: {}", mapping.getKey(), mapping.getValue());
+                    continue;
+                }
+                columnByFieldIndex.put(fieldIndex, mapping.getKey());
+            }
+        }
+
+        log.info("문서 필드 미리 채우기 준비 - 템플릿 필드: {}개, 매핑: {}개",
+                templateFields != null ? templateFields.size() : 0, columnByFieldIndex.size());
+        return new PrefillPlan(templateFields, columnByFieldIndex);
+    }
+
+    private int findFieldIndex(ArrayNode templateFields, String fieldKey) {
+        for (String attribute : List.of("id", "label")) {
+            for (int i = 0; i < templateFields.size(); i++) {
+                JsonNode node = templateFields.get(i).get(attribute);
+                if (node != null && node.asText().equals(fieldKey)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private ObjectNode initializeDocumentData(PrefillPlan prefillPlan, BulkStagingItem item) {
+        ObjectNode data = objectMapper.createObjectNode();
+
+        if (prefillPlan.templateFields() != null) {
+            // coordinateFields를 복사하고 매핑된 값만 채움 (나머지는 빈 문자열)
+            ArrayNode fieldsArray = objectMapper.createArrayNode();
+            for (int i = 0; i < prefillPlan.templateFields().size(); i++) {
+                ObjectNode fieldCopy = prefillPlan.templateFields().get(i).deepCopy();
+                String column = prefillPlan.columnByFieldIndex().get(i);
+                String value = column != null ? getColumnValue(item, column) : null;
+                fieldCopy.put("value", value != null ? value : "");
+                fieldsArray.add(fieldCopy);
+            }
+            data.set("coordinateFields", fieldsArray);
+        }
+
         return data;
     }
 
+    private String getColumnValue(BulkStagingItem item, String column) {
+        return switch (column) {
+            case "studentId" -> item.getStudentId();
+            case "name" -> item.getName();
+            case "email" -> item.getEmail();
+            case "course" -> item.getCourse();
+            default -> item.getExtraData() != null ? item.getExtraData().get(column) : null;
+        };
+    }
+
     private String generateDocumentTitle(ExcelParsingService.StudentRecord record) {
         return record.getName() + "_" + record.getCourse() + "_근무일지" ;
     }
 
+    /**
+     * 대량 처리 성능 로그 (처리 시간, 초당 행 수) <br/>
+     * 쿼리 수/힙 사용량은 BulkBenchmarkTest로 측정
+     */
+    private void logThroughput(String phase, int rows, long startedAt) {
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("대량 처리 성능 [{}] - 행: {}, 소요: {}ms, 초당: {}행", phase, rows, elapsedMs, rows * 1000L / elapsedMs);
+    }
+
+    // 커밋 단위로 한 번 만든 템플릿 필드 정보 (필드 위치 -> 엑셀 컬럼명)
+    private record PrefillPlan(ArrayNode templateFields, Map<Integer, String> columnByFieldIndex) {
+    }
+
     private Optional<User> findUserByEmailOrId(String email, String studentId) {
         // 먼저 이메일로 검색
         Optional<User> userByEmail = userRepository.findByEmail(email);
@@ -456,6 +556,7 @@ public class BulkDocumentService {
                 .email(item.getEmail())
                 .course(item.getCourse())
                 .documentTitle(item.getDocumentTitle())
+                .extraData(item.getExtraData())
                 .isValid(item.isValid())
                 .validationError(item.getValidationError())
                 .processingStatus(item.getProcessingStatus() != null ? item.getProcessingStatus().name() : "PENDING")
@@ -0,0 +1,58 @@
+package com.hiswork.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대량 업로드 스테이징 정리 스케줄러
+ * 미리보기만 하고 커밋/취소하지 않은(READY) 스테이징을 TTL이 지나면 배치 단위로 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkStagingCleanupScheduler {
+
+    private final BulkDocumentService bulkDocumentService;
+    private final JobCoordinator jobCoordinator;
+
+    @Value("${app.bulk.staging-ttl-hours:24}")
+    private long stagingTtlHours;
+
+    @Value("${app.bulk.cleanup-batch-size:200}")
+    private int cleanupBatchSize;
+
+    /**
+     * 만료된 스테이징 정리 (매시 30분 실행)
+     * 배치마다 한 트랜잭션에서 아이템 → 스테이징 순서로 삭제하여 잠금 시간을 짧게 유지
+     */
+    @Scheduled(cron = "${app.bulk.cleanup-cron:0 30 * * * ?}")
+    public void cleanupExpiredStagings() {
+        jobCoordinator.runExclusive("bulk-staging-cleanup", Duration.ofMinutes(30), this::deleteExpiredStagings);
+    }
+
+    private void deleteExpiredStagings() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusHours(stagingTtlHours);
+        log.info("만료된 스테이징 정리 시작 - 기준 시각: {}", expiredBefore);
+
+        int deletedStagings = 0;
+        int deletedItems = 0;
+
+        while (true) {
+            BulkDocumentService.StagingCleanupResult result =
+                    bulkDocumentService.deleteExpiredStagingBatch(expiredBefore, cleanupBatchSize);
+            deletedStagings += result.deletedStagings();
+            deletedItems += result.deletedItems();
+
+            if (result.locked() < cleanupBatchSize) {
+                break;
+            }
+        }
+
+        log.info("만료된 스테이징 정리 완료 - 스테이징: {}개, 아이템: {}개", deletedStagings, deletedItems);
+    }
+}
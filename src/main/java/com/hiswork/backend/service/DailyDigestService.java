@@ -0,0 +1,127 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.domain.MailDeliveryMode;
+import com.hiswork.backend.domain.Notification;
+import com.hiswork.backend.domain.ReminderSent;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.DeadlineReminderTarget;
+import com.hiswork.backend.dto.MailRequest;
+import com.hiswork.backend.repository.NotificationRepository;
+import com.hiswork.backend.repository.ReminderSentRepository;
+import com.hiswork.backend.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 하루 요약 메일 발송
+ * 요약 수신(DIGEST)을 선택한 사용자에게 마감 임박 문서와 지난 하루 동안의 읽지 않은 알림을 한 통으로 묶어 발송
+ * 사용자당 하루 한 통만 보내며, 요약에 담긴 마감 알림은 발송 기록에 남겨 다시 보내지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyDigestService {
+
+    private final NotificationRepository notificationRepository;
+    private final ReminderSentRepository reminderSentRepository;
+    private final UserRepository userRepository;
+    private final MailService mailService;
+
+    // 요약 메일 한 통에 담을 최대 알림 수 (나머지는 건수만 표시)
+    @Value("${app.mail.digest.max-notifications:20}")
+    private int maxNotifications;
+
+    /**
+     * 사용자별 요약 메일 등록
+     * @param digestTargets 요약 수신 사용자의 마감 임박 문서 (마감 알림 스케줄러에서 수집)
+     * @return 등록한 요약 메일 수
+     */
+    @Transactional
+    public int sendDailyDigests(List<DeadlineReminderTarget> digestTargets) {
+        Map<String, DigestEntry> entries = new LinkedHashMap<>();
+        for (DeadlineReminderTarget target : digestTargets) {
+            entries.computeIfAbsent(target.getUserId(), id -> new DigestEntry()).reminders.add(target);
+        }
+        int reminderRecipients = entries.size();
+
+        List<Notification> unread = notificationRepository.findUnreadForDigest(
+                LocalDateTime.now().minusDays(1), MailDeliveryMode.DIGEST);
+        for (Notification notification : unread) {
+            DigestEntry entry = entries.computeIfAbsent(notification.getRecipientUser().getId(), id -> new DigestEntry());
+            if (entry.notifications.size() < maxNotifications) {
+                entry.notifications.add(MailRequest.DailyDigestEmailCommand.NotificationItem.builder()
+                        .title(notification.getTitle())
+                        .message(notification.getMessage())
+                        .actionUrl(notification.getActionUrl())
+                        .createdAt(notification.getCreatedAt())
+                        .build());
+            } else {
+                entry.omittedNotifications++;
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<String, User> users = userRepository.findAllById(entries.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<ReminderSent> ledger = new ArrayList<>();
+
+        int sent = 0;
+        for (Map.Entry<String, DigestEntry> e : entries.entrySet()) {
+            User user = users.get(e.getKey());
+            DigestEntry entry = e.getValue();
+            if (user == null || user.getEmail() == null || user.getEmail().isBlank()) {
+                continue;
+            }
+            if (today.equals(user.getLastDigestDate())) {
+                // 오늘 이미 요약을 보냄 - 마감 알림은 기록하지 않았으므로 다음 요약에 포함됨
+                continue;
+            }
+
+            List<MailRequest.DailyDigestEmailCommand.ReminderItem> reminders = new ArrayList<>();
+            for (DeadlineReminderTarget target : entry.reminders) {
+                reminders.add(MailRequest.DailyDigestEmailCommand.ReminderItem.builder()
+                        .documentId(target.getDocumentId())
+                        .documentTitle(target.getDocumentTitle())
+                        .deadline(target.getDeadline())
+                        .build());
+                ledger.add(ReminderSent.builder()
+                        .documentId(target.getDocumentId())
+                        .recipientEmail(target.getRecipientEmail())
+                        .stage(target.getStage())
+                        .build());
+            }
+
+            mailService.sendDailyDigest(MailRequest.DailyDigestEmailCommand.builder()
+                    .recipientEmail(user.getEmail())
+                    .recipientName(user.getName())
+                    .reminders(reminders)
+                    .notifications(entry.notifications)
+                    .omittedNotificationCount(entry.omittedNotifications)
+                    .build());
+            user.setLastDigestDate(today);
+            sent++;
+        }
+        reminderSentRepository.saveAll(ledger);
+
+        log.info("하루 요약 메일 등록 완료 - {}명 (마감 알림 대상 {}명, 읽지 않은 알림 {}건)",
+                sent, reminderRecipients, unread.size());
+        return sent;
+    }
+
+    private static class DigestEntry {
+        private final List<DeadlineReminderTarget> reminders = new ArrayList<>();
+        private final List<MailRequest.DailyDigestEmailCommand.NotificationItem> notifications = new ArrayList<>();
+        private int omittedNotifications;
+    }
+}
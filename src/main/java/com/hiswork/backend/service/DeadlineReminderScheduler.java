@@ -1,107 +1,184 @@
 package com.hiswork.backend.service;
 
+import com.hiswork.backend.config.ReminderProperties;
 import com.hiswork.backend.domain.Document;
 import com.hiswork.backend.domain.DocumentRole;
-import com.hiswork.backend.domain.User;
-import com.hiswork.backend.dto.MailRequest;
+import com.hiswork.backend.dto.DeadlineReminderTarget;
 import com.hiswork.backend.repository.DocumentRepository;
-import com.hiswork.backend.repository.DocumentRoleRepository;
-import com.hiswork.backend.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 문서 마감일 알림 스케줄러
- * 매일 오전 9시에 실행되어 마감일이 하루 남은 작성 중(EDITING) 문서의 편집자에게 알림 메일 발송
+ * 문서 상태별로 설정된 단계(D-3, D-1, 마감 경과 등)에 맞춰 담당자(작성 중: 편집자, 검토 중: 검토자, 서명 중: 서명자)에게 알림 메일 발송
+ * 발송 기록(reminder_sent)으로 (문서, 수신자, 단계)당 한 번만 보내므로, 재실행하거나 서버 중단 후 보충 실행해도 중복 발송되지 않음
+ * 하루 요약(DIGEST)을 선택한 사용자는 문서별 메일 대신 요약 메일 한 통으로 받음
+ * 여러 서버가 떠 있어도 JobCoordinator로 한 노드에서만 실행
  */
 @Service
 @RequiredArgsConstructor
 public class DeadlineReminderScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(DeadlineReminderScheduler.class);
+    private static final String JOB_NAME = "deadline-reminder";
 
     private final DocumentRepository documentRepository;
-    private final DocumentRoleRepository documentRoleRepository;
-    private final UserRepository userRepository;
-    private final MailService mailService;
+    private final DeadlineReminderService deadlineReminderService;
+    private final DailyDigestService dailyDigestService;
+    private final ReminderProperties reminderProperties;
+    private final JobCoordinator jobCoordinator;
 
     /**
-     * 마감일 임박 알림 (매일 오전 9시 실행)
-     * 작성 단계(EDITING)이고 마감일이 하루 남은 문서의 편집자에게 알림 메일 발송
+     * 마감일 알림 (기본 매일 오전 9시 실행)
      */
-    @Scheduled(cron = "0 0 9 * * ?")
-    @Transactional(readOnly = true)
+    @Scheduled(cron = "${app.reminder.cron:0 0 9 * * ?}")
     public void sendDeadlineReminders() {
-        log.info("마감일 임박 알림 스케줄러 시작");
+        jobCoordinator.runExclusive(JOB_NAME, Duration.ofHours(1), this::runReminders);
+    }
+
+    /**
+     * 기동 직후 보충 실행 - 서버가 중단된 동안 놓친 알림 발송 (이미 보낸 단계는 건너뜀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        if (!reminderProperties.isRunOnStartup()) {
+            return;
+        }
+        // 발송 기록으로 중복이 걸러지므로 최근 실행 여부와 관계없이 실행
+        jobCoordinator.runExclusive(JOB_NAME, Duration.ZERO, this::runReminders);
+    }
+
+    private void runReminders() {
+        log.info("마감일 알림 스케줄러 시작");
 
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime tomorrow = now.plusDays(1);
-        
-        // 내일이 마감일인 범위 (내일 00:00 ~ 23:59)
-        LocalDateTime tomorrowStart = tomorrow.toLocalDate().atStartOfDay();
-        LocalDateTime tomorrowEnd = tomorrow.toLocalDate().atTime(23, 59, 59);
+        LocalDate today = now.toLocalDate();
+        int sentCount = 0;
+        List<DeadlineReminderTarget> digestTargets = new ArrayList<>();
+
+        for (Map.Entry<Document.DocumentStatus, List<Integer>> entry : reminderProperties.getStages().entrySet()) {
+            Document.DocumentStatus status = entry.getKey();
+            DocumentRole.TaskRole taskRole = recipientRole(status);
+            if (taskRole == null) {
+                log.warn("마감일 알림을 지원하지 않는 문서 상태 - {}", status);
+                continue;
+            }
 
-        // EDITING 상태이고 마감일이 내일인 문서 조회
-        List<Document> documents = documentRepository.findByStatusAndDeadlineBetween(
-            Document.DocumentStatus.EDITING,
-            tomorrowStart,
-            tomorrowEnd
-        );
+            // 마감에 가까운 단계일수록 뒤에 오도록 정렬 (D-3 → D-1 → 마감 경과)
+            List<Integer> daysBefore = entry.getValue().stream()
+                    .distinct()
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
 
-        log.info("마감일 임박 문서 {}개 발견", documents.size());
+            for (int i = 0; i < daysBefore.size(); i++) {
+                int days = daysBefore.get(i);
 
-        int sentCount = 0;
-        for (Document document : documents) {
-            try {
-                // 편집자(EDITOR) 역할을 가진 사용자 찾기
-                List<DocumentRole> editorRoles = documentRoleRepository
-                    .findByDocumentAndRole(document.getId(), DocumentRole.TaskRole.EDITOR)
-                    .map(List::of)
-                    .orElse(List.of());
-
-                for (DocumentRole role : editorRoles) {
-                    // assignedUserId로 사용자 조회
-                    if (role.getAssignedUserId() == null) {
-                        continue; // 등록된 사용자가 없으면 스킵
-                    }
-                    
-                    User editor = userRepository.findById(role.getAssignedUserId())
-                        .orElse(null);
-                    
-                    if (editor == null) {
-                        continue; // 사용자를 찾을 수 없으면 스킵
-                    }
-                    
-                    // 알림 메일 발송
-                    mailService.sendDeadlineReminderNotification(
-                        MailRequest.DeadlineReminderEmailCommand.builder()
-                            .documentId(document.getId())
-                            .documentTitle(document.getTitle())
-                            .editorEmail(editor.getEmail())
-                            .editorName(editor.getName())
-                            .deadline(document.getDeadline() != null ? 
-                                document.getDeadline().atZone(ZoneId.systemDefault()) : null)
-                            .build()
-                    );
-                    
-                    sentCount++;
-                    log.info("마감일 알림 발송 완료 - 문서: {}, 편집자: {}", 
-                        document.getTitle(), editor.getEmail());
+                // 마감일(날짜)까지 남은 일수가 days 이하이고 다음 단계에 아직 도달하지 않은 문서
+                LocalDateTime to = today.plusDays(days + 1L).atStartOfDay();
+                LocalDateTime from = i + 1 < daysBefore.size()
+                        ? today.plusDays(daysBefore.get(i + 1) + 1L).atStartOfDay()
+                        : now.minusDays(reminderProperties.getCatchUpDays());
+                if (days >= 0) {
+                    from = from.isAfter(now) ? from : now; // 마감 전 단계는 아직 마감되지 않은 문서만
+                } else if (i == 0 || daysBefore.get(i - 1) >= 0) {
+                    to = now; // 첫 마감 경과 단계는 마감 전 단계와 현재 시각에서 맞닿음 (오늘 이미 지난 마감 포함)
+                } else {
+                    to = to.isBefore(now) ? to : now; // 마감 경과 단계는 이미 마감된 문서만
+                }
+                if (!from.isBefore(to)) {
+                    continue;
+                }
+
+                sentCount += processStage(status, taskRole, stageCode(status, days), from, to, digestTargets);
+            }
+        }
+
+        // 요약 수신 사용자는 마감 임박 문서와 읽지 않은 알림을 한 통으로 발송
+        int digestCount = 0;
+        try {
+            digestCount = dailyDigestService.sendDailyDigests(digestTargets);
+        } catch (Exception e) {
+            log.error("하루 요약 메일 발송 실패: {}", e.getMessage(), e);
+        }
+
+        log.info("마감일 알림 스케줄러 완료 - 총 {}개 메일 발송, 요약 메일 {}개", sentCount, digestCount);
+    }
+
+    // 한 단계의 대상을 페이지 단위로 조회/발송 (페이지마다 별도 트랜잭션)
+    private int processStage(Document.DocumentStatus status, DocumentRole.TaskRole taskRole, String stage,
+                             LocalDateTime from, LocalDateTime to, List<DeadlineReminderTarget> digestTargets) {
+        int pageSize = reminderProperties.getPageSize();
+        int sent = 0;
+        long afterRoleId = 0L;
+        Set<String> seen = new HashSet<>();
+
+        while (true) {
+            List<DeadlineReminderTarget> page = documentRepository.findReminderTargets(
+                    status, taskRole, from, to, stage, afterRoleId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            afterRoleId = page.get(page.size() - 1).getRoleId();
+
+            List<DeadlineReminderTarget> immediate = new ArrayList<>(page.size());
+            for (DeadlineReminderTarget target : page) {
+                target.setStage(stage);
+                // 같은 문서에 같은 수신자가 중복 지정된 경우 한 번만 발송
+                if (!seen.add(target.getDocumentId() + ":" + target.getRecipientEmail())) {
+                    continue;
                 }
-                
+                if (target.prefersDigest()) {
+                    digestTargets.add(target);
+                } else {
+                    immediate.add(target);
+                }
+            }
+
+            try {
+                sent += deadlineReminderService.sendReminders(immediate);
             } catch (Exception e) {
-                log.error("마감일 알림 발송 실패 - 문서 ID: {}, 오류: {}", 
-                    document.getId(), e.getMessage(), e);
+                // 기록이 남지 않았으므로 다음 실행에서 다시 시도
+                log.error("마감일 알림 발송 실패 - 단계: {}, 오류: {}", stage, e.getMessage(), e);
+            }
+
+            if (page.size() < pageSize) {
+                break;
             }
         }
 
-        log.info("마감일 임박 알림 스케줄러 완료 - 총 {}개 메일 발송", sentCount);
+        if (sent > 0) {
+            log.info("마감일 알림 단계 완료 - 단계: {}, 발송: {}건", stage, sent);
+        }
+        return sent;
+    }
+
+    // 문서 상태별 알림 수신 역할
+    private DocumentRole.TaskRole recipientRole(Document.DocumentStatus status) {
+        return switch (status) {
+            case EDITING -> DocumentRole.TaskRole.EDITOR;
+            case REVIEWING -> DocumentRole.TaskRole.REVIEWER;
+            case SIGNING -> DocumentRole.TaskRole.SIGNER;
+            default -> null;
+        };
+    }
+
+    // 단계 코드 (예: EDITING:D-3, EDITING:D-0, SIGNING:D+1)
+    private String stageCode(Document.DocumentStatus status, int daysBefore) {
+        return status + ":D" + (daysBefore >= 0 ? "-" + daysBefore : "+" + (-daysBefore));
     }
 }
@@ -0,0 +1,59 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.domain.ReminderSent;
+import com.hiswork.backend.dto.DeadlineReminderTarget;
+import com.hiswork.backend.dto.MailRequest;
+import com.hiswork.backend.repository.ReminderSentRepository;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마감일 알림 메일 등록
+ * 메일 대기열 등록과 발송 기록을 한 트랜잭션으로 처리하여, 기록이 남은 알림은 다시 보내지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadlineReminderService {
+
+    private final MailService mailService;
+    private final ReminderSentRepository reminderSentRepository;
+
+    /**
+     * 알림 대상 한 페이지 발송
+     * @return 등록한 메일 수
+     */
+    @Transactional
+    public int sendReminders(List<DeadlineReminderTarget> targets) {
+        List<ReminderSent> ledger = new ArrayList<>(targets.size());
+        for (DeadlineReminderTarget target : targets) {
+            mailService.sendDeadlineReminderNotification(
+                MailRequest.DeadlineReminderEmailCommand.builder()
+                    .documentId(target.getDocumentId())
+                    .documentTitle(target.getDocumentTitle())
+                    .editorEmail(target.getRecipientEmail())
+                    .editorName(target.getRecipientName())
+                    .deadline(target.getDeadline() != null ?
+                        target.getDeadline().atZone(ZoneId.systemDefault()) : null)
+                    .taskRole(target.getTaskRole())
+                    .build()
+            );
+
+            ledger.add(ReminderSent.builder()
+                    .documentId(target.getDocumentId())
+                    .recipientEmail(target.getRecipientEmail())
+                    .stage(target.getStage())
+                    .build());
+
+            log.info("마감일 알림 발송 등록 - 문서: {}, 수신자: {}, 단계: {}",
+                target.getDocumentTitle(), target.getRecipientEmail(), target.getStage());
+        }
+        reminderSentRepository.saveAll(ledger);
+        return targets.size();
+    }
+}
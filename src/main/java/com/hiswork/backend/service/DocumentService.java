@@ -21,6 +21,7 @@ import com.hiswork.backend.repository.DocumentRoleRepository;
 import com.hiswork.backend.repository.DocumentStatusLogRepository;
 import com.hiswork.backend.repository.TemplateRepository;
 import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.security.DocumentAuthorization;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -52,6 +53,7 @@ public class DocumentService {
     private final PasswordEncoder passwordEncoder;
     private final NotificationService notificationService;
     private final SigningTokenService signingTokenService;
+    private final DocumentAuthorization documentAuthorization;
 
     public Document createDocument(Long templateId, User creator, String editorEmail, String title, LocalDateTime deadline) {
         Template template = templateRepository.findById(templateId)
@@ -763,28 +765,21 @@ public class DocumentService {
                 .build();
     }
     
+    // 역할 판단은 DocumentAuthorization에서 요청 동안 한 번 조회한 역할 목록으로 처리
     private boolean isCreator(Document document, User user) {
-        return documentRoleRepository.findByDocumentAndUserAndRole(
-                document.getId(), user.getId(), DocumentRole.TaskRole.CREATOR
-        ).isPresent();
+        return documentAuthorization.isCreator(document, user);
     }
     
     private boolean isEditor(Document document, User user) {
-        return documentRoleRepository.findByDocumentAndUserAndRole(
-                document.getId(), user.getId(), DocumentRole.TaskRole.EDITOR
-        ).isPresent();
+        return documentAuthorization.isEditor(document, user);
     }
     
     private boolean isReviewer(Document document, User user) {
-        return documentRoleRepository.findByDocumentAndUserAndRole(
-                document.getId(), user.getId(), DocumentRole.TaskRole.REVIEWER
-        ).isPresent();
+        return documentAuthorization.isReviewer(document, user);
     }
     
     private boolean isSigner(Document document, User user) {
-        return documentRoleRepository.findByDocumentAndUserAndRole(
-                document.getId(), user.getId(), DocumentRole.TaskRole.SIGNER
-        ).isPresent();
+        return documentAuthorization.isSigner(document, user);
     }
     
     private User getUserOrCreate(String email, String defaultName) {
@@ -1193,13 +1188,9 @@ public class DocumentService {
     
     public boolean canAssignReviewer(Document document, User user) {
         try {
-            // 해당 사용자의 모든 역할을 조회하여 작성자이거나 편집자인 역할이 있는지 확인
-            List<DocumentRole> roles = documentRoleRepository.findAllByDocumentAndUser(document.getId(), user.getId());
-            
-            return roles.stream().anyMatch(role ->
-                role.getTaskRole() == DocumentRole.TaskRole.CREATOR || 
-                role.getTaskRole() == DocumentRole.TaskRole.EDITOR
-            );
+            // 해당 사용자의 역할 중 작성자이거나 편집자인 역할이 있는지 확인
+            return documentAuthorization.hasAnyRole(document, user,
+                    DocumentRole.TaskRole.CREATOR, DocumentRole.TaskRole.EDITOR);
         } catch (Exception e) {
             log.error("Error checking assign reviewer permission for document {} and user {}", document.getId(), user.getId(), e);
             return false;
@@ -11,10 +11,20 @@ import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 @Service
@@ -26,6 +36,17 @@ public class ExcelParsingService {
         "(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$"
     );
     
+    // 인코딩 판별에 사용할 CSV 앞부분 크기
+    private static final int CHARSET_SAMPLE_SIZE = 8 * 1024;
+    
+    // 히즈넷 엑셀 내보내기 기본 인코딩 (EUC-KR 상위 호환)
+    private static final Charset CP949 = Charset.forName("MS949");
+    
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+    
+    // 학번, 이름, 이메일, 과목 이후부터는 추가 컬럼
+    private static final int BASE_COLUMN_COUNT = 4;
+    
     @Data
     public static class StudentRecord {
         private String studentId;   // 학번
@@ -33,6 +54,9 @@ public class ExcelParsingService {
         private String email;       // 이메일
         private String course;      // 과목
         
+        // 다섯 번째 컬럼부터의 추가 컬럼 (헤더명 -> 값), 문서 필드 미리 채우기용
+        private Map<String, String> extraColumns = new LinkedHashMap<>();
+        
         public boolean isValid() {
             return studentId != null && !studentId.trim().isEmpty() &&
                    name != null && !name.trim().isEmpty() &&
@@ -61,35 +85,58 @@ public class ExcelParsingService {
     }
     
     public List<StudentRecord> parseFile(MultipartFile file) throws IOException {
+        List<StudentRecord> records = new ArrayList<>();
+        streamFile(file, DEFAULT_CHUNK_SIZE, Integer.MAX_VALUE, records::addAll);
+        return records;
+    }
+    
+    /**
+     * 파일을 chunkSize 단위로 읽어 consumer에 전달 <br/>
+     * 전체 레코드를 리스트로 모으지 않으므로 메모리 사용량은 chunk 크기에 비례 <br/>
+     * maxRows를 넘는 행이 나오면 즉시 중단하고 IllegalStateException 발생
+     * @return 전달한 전체 레코드 수
+     */
+    public int streamFile(MultipartFile file, int chunkSize, int maxRows,
+                          Consumer<List<StudentRecord>> chunkConsumer) throws IOException {
         String filename = file.getOriginalFilename();
         if (filename == null) {
             throw new IllegalArgumentException("파일명이 없습니다");
         }
         
         String extension = getFileExtension(filename).toLowerCase();
+        ChunkWriter writer = new ChunkWriter(chunkSize, maxRows, chunkConsumer);
         
         switch (extension) {
             case "xlsx":
             case "xls":
-                return parseExcelFile(file);
+                streamExcelFile(file, writer);
+                writer.flush();
+                log.info("Excel 파일 파싱 완료: {} 행", writer.total);
+                return writer.total;
             case "csv":
-                return parseCsvFile(file);
+                streamCsvFile(file, writer);
+                writer.flush();
+                log.info("CSV 파일 파싱 완료: {} 행", writer.total);
+                return writer.total;
             default:
                 throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. Excel(.xlsx, .xls) 또는 CSV 파일만 업로드 가능합니다.");
         }
     }
     
-    private List<StudentRecord> parseExcelFile(MultipartFile file) throws IOException {
-        List<StudentRecord> records = new ArrayList<>();
-        
+    private void streamExcelFile(MultipartFile file, ChunkWriter writer) throws IOException {
         try (Workbook workbook = createWorkbook(file)) {
             Sheet sheet = workbook.getSheetAt(0); // 첫 번째 시트 사용
             
+            List<String> headers = new ArrayList<>();
             boolean isFirstRow = true;
             for (Row row : sheet) {
-                // 첫 번째 행은 헤더로 간주하고 스킵
+                // 첫 번째 행은 헤더로 간주 (추가 컬럼명으로 사용)
                 if (isFirstRow) {
                     isFirstRow = false;
+                    for (int i = 0; i < row.getLastCellNum(); i++) {
+                        Cell headerCell = row.getCell(i);
+                        headers.add(headerCell != null ? getCellValueAsString(headerCell).trim() : "");
+                    }
                     continue;
                 }
                 
@@ -124,37 +171,95 @@ public class ExcelParsingService {
                     record.setCourse(getCellValueAsString(courseCell).trim());
                 }
                 
-                records.add(record);
+                // 추가 컬럼: 헤더명 기준으로 저장
+                for (int i = BASE_COLUMN_COUNT; i < headers.size(); i++) {
+                    Cell extraCell = row.getCell(i);
+                    if (!headers.get(i).isEmpty() && extraCell != null) {
+                        record.getExtraColumns().put(headers.get(i), getCellValueAsString(extraCell).trim());
+                    }
+                }
+                
+                writer.add(record);
             }
         }
-        
-        log.info("Excel 파일 파싱 완료: {} 행", records.size());
-        return records;
     }
     
-    private List<StudentRecord> parseCsvFile(MultipartFile file) throws IOException {
-        List<StudentRecord> records = new ArrayList<>();
-        
-        try (InputStreamReader reader = new InputStreamReader(file.getInputStream(), "UTF-8");
-             CSVParser parser = new CSVParser(reader, CSVFormat.DEFAULT.withFirstRecordAsHeader())) {
+    private void streamCsvFile(MultipartFile file, ChunkWriter writer) throws IOException {
+        try (BufferedInputStream in = new BufferedInputStream(file.getInputStream(), CHARSET_SAMPLE_SIZE)) {
+            Charset charset = detectCharset(in);
+            log.info("CSV 인코딩 판별: {}", charset.name());
             
-            for (CSVRecord csvRecord : parser) {
-                StudentRecord record = new StudentRecord();
+            try (InputStreamReader reader = new InputStreamReader(in, charset);
+                 CSVParser parser = new CSVParser(reader, CSVFormat.DEFAULT.withFirstRecordAsHeader())) {
+                
+                List<String> headers = parser.getHeaderNames();
                 
-                // CSV에서는 컬럼 인덱스 또는 헤더명으로 접근
-                if (csvRecord.size() >= 4) {
-                    record.setStudentId(csvRecord.get(0).trim()); // 첫 번째 컬럼: 학번 (ID)
-                    record.setName(csvRecord.get(1).trim());      // 두 번째 컬럼: 이름
-                    record.setEmail(csvRecord.get(2).trim());     // 세 번째 컬럼: 이메일
-                    record.setCourse(csvRecord.get(3).trim());    // 네 번째 컬럼: 과목
+                // CSVParser는 한 행씩 읽으므로 파일 전체가 메모리에 올라가지 않음
+                for (CSVRecord csvRecord : parser) {
+                    StudentRecord record = new StudentRecord();
                     
-                    records.add(record);
+                    // CSV에서는 컬럼 인덱스 또는 헤더명으로 접근
+                    if (csvRecord.size() >= 4) {
+                        record.setStudentId(csvRecord.get(0).trim()); // 첫 번째 컬럼: 학번 (ID)
+                        record.setName(csvRecord.get(1).trim());      // 두 번째 컬럼: 이름
+                        record.setEmail(csvRecord.get(2).trim());     // 세 번째 컬럼: 이메일
+                        record.setCourse(csvRecord.get(3).trim());    // 네 번째 컬럼: 과목
+                        
+                        // 추가 컬럼: 헤더명 기준으로 저장
+                        for (int i = BASE_COLUMN_COUNT; i < Math.min(headers.size(), csvRecord.size()); i++) {
+                            if (!headers.get(i).trim().isEmpty()) {
+                                record.getExtraColumns().put(headers.get(i).trim(), csvRecord.get(i).trim());
+                            }
+                        }
+                        
+                        writer.add(record);
+                    }
                 }
             }
         }
+    }
+    
+    /**
+     * CSV 인코딩 판별 <br/>
+     * 1. BOM이 있으면 BOM 기준 (BOM 바이트는 건너뜀) <br/>
+     * 2. BOM이 없으면 앞부분을 UTF-8로 엄격하게 디코딩해보고, 실패하면 CP949(EUC-KR)로 간주
+     */
+    private Charset detectCharset(BufferedInputStream in) throws IOException {
+        in.mark(CHARSET_SAMPLE_SIZE);
+        byte[] sample = in.readNBytes(CHARSET_SAMPLE_SIZE);
+        in.reset();
         
-        log.info("CSV 파일 파싱 완료: {} 행", records.size());
-        return records;
+        if (hasPrefix(sample, 0xEF, 0xBB, 0xBF)) {
+            in.skipNBytes(3);
+            return StandardCharsets.UTF_8;
+        }
+        if (hasPrefix(sample, 0xFF, 0xFE)) {
+            in.skipNBytes(2);
+            return StandardCharsets.UTF_16LE;
+        }
+        if (hasPrefix(sample, 0xFE, 0xFF)) {
+            in.skipNBytes(2);
+            return StandardCharsets.UTF_16BE;
+        }
+        
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        // endOfInput=false: 샘플 끝에서 잘린 멀티바이트 문자는 오류로 보지 않음
+        boolean isUtf8 = !decoder.decode(ByteBuffer.wrap(sample), CharBuffer.allocate(sample.length), false).isError();
+        return isUtf8 ? StandardCharsets.UTF_8 : CP949;
+    }
+    
+    private boolean hasPrefix(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
     }
     
     private Workbook createWorkbook(MultipartFile file) throws IOException {
@@ -204,4 +309,38 @@ public class ExcelParsingService {
         }
         return filename.substring(lastDotIndex + 1);
     }
+    
+    // 레코드를 chunkSize만큼 모아서 consumer에 넘기는 버퍼
+    private static class ChunkWriter {
+        private final int chunkSize;
+        private final int maxRows;
+        private final Consumer<List<StudentRecord>> consumer;
+        private List<StudentRecord> buffer;
+        private int total;
+        
+        ChunkWriter(int chunkSize, int maxRows, Consumer<List<StudentRecord>> consumer) {
+            this.chunkSize = Math.max(1, chunkSize);
+            this.maxRows = maxRows;
+            this.consumer = consumer;
+            this.buffer = new ArrayList<>(this.chunkSize);
+        }
+        
+        void add(StudentRecord record) {
+            if (total >= maxRows) {
+                throw new IllegalStateException(String.format("최대 %d행까지 처리할 수 있습니다", maxRows));
+            }
+            buffer.add(record);
+            total++;
+            if (buffer.size() >= chunkSize) {
+                flush();
+            }
+        }
+        
+        void flush() {
+            if (!buffer.isEmpty()) {
+                consumer.accept(buffer);
+                buffer = new ArrayList<>(chunkSize);
+            }
+        }
+    }
 }
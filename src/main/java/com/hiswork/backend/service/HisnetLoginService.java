@@ -4,21 +4,47 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hiswork.backend.dto.AuthDto;
+import com.hiswork.backend.util.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 히즈넷 로그인 API 호출 <br/>
+ * 공용 HTTP 클라이언트(HisnetClientConfig)로 호출하고, 히즈넷 장애(5xx, 연결/응답 시간 초과)가 이어지면
+ * 서킷 브레이커가 열려 요청 스레드를 붙잡지 않고 바로 503으로 실패한다.
+ * 호출 결과는 hisnet.login.calls{outcome} 지표로 집계된다.
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class HisnetLoginService {
 
+    private static final String UNAVAILABLE_MESSAGE = "히즈넷 로그인 서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    @Qualifier("hisnetRestTemplate")
+    private final RestTemplate restTemplate;
+    @Qualifier("hisnetCircuitBreaker")
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
     @Value("${hisnet.access_key}")
     private String ACCESS_KEY;
 
@@ -37,12 +63,19 @@ public class HisnetLoginService {
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-        RestTemplate restTemplate = new RestTemplate();
         UriComponents uri = UriComponentsBuilder.fromUriString(HISNET_URL).build();
 
+        CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            countCall("rejected");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, UNAVAILABLE_MESSAGE);
+        }
+
         try {
             ParameterizedTypeReference<Map<String, Object>> typeRef = new ParameterizedTypeReference<>() {};
             ResponseEntity<Map<String, Object>> resultMap = restTemplate.exchange(uri.toString(), HttpMethod.POST, entity, typeRef);
+            circuitBreaker.onSuccess(permit);
+            countCall("success");
             Map<String, Object> result = resultMap.getBody();
 
             assert result != null;
@@ -57,15 +90,38 @@ public class HisnetLoginService {
                     .grade(Integer.parseInt(result.get("grade").toString()))
                     .semester(Integer.parseInt(result.get("semester").toString()))
                     .build();
+        } catch (ResourceAccessException e) {
+            // 연결 실패, 연결/응답 시간 초과, 풀 대기 시간 초과
+            circuitBreaker.onFailure(permit);
+            countCall("io_error");
+            log.warn("히즈넷 로그인 API 호출 실패: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, UNAVAILABLE_MESSAGE, e);
         } catch (HttpStatusCodeException e) {
+            // 4xx는 잘못된 토큰 등 요청 문제이므로 히즈넷 장애로 보지 않음
+            if (e instanceof HttpClientErrorException) {
+                circuitBreaker.onSuccess(permit);
+                countCall("client_error");
+            } else {
+                circuitBreaker.onFailure(permit);
+                countCall("server_error");
+            }
             Map<String, Object> result = new HashMap<>();
 
             try {
-                result = new ObjectMapper().readValue(e.getResponseBodyAsString(), new TypeReference<>() {});
+                result = objectMapper.readValue(e.getResponseBodyAsString(), new TypeReference<>() {});
                 throw new RuntimeException(result.get("message").toString());
             } catch (JsonProcessingException ex) {
                 throw new RuntimeException("Failed to parse error response from Hisnet API", ex);
             }
+        } catch (RestClientException e) {
+            // 알 수 없는 상태 코드, 응답 변환 실패 등
+            circuitBreaker.onFailure(permit);
+            countCall("error");
+            throw e;
         }
     }
-}
\ No newline at end of file
+
+    private void countCall(String outcome) {
+        meterRegistry.counter("hisnet.login.calls", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,110 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.domain.JobRun;
+import com.hiswork.backend.repository.JobRunRepository;
+import jakarta.annotation.PostConstruct;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 작업 조정기 - 여러 서버가 떠 있어도 예약 작업이 클러스터 전체에서 한 번만 실행되도록 보장 <br/>
+ * PostgreSQL 트랜잭션 advisory lock을 작업이 끝날 때까지 잡고 실행하므로,
+ * 실행 중인 노드가 죽어도 연결이 끊기면서 잠금이 풀린다. 실행 결과는 job_run 테이블에 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobCoordinator {
+
+    private final DataSource dataSource;
+    private final JobRunRepository jobRunRepository;
+
+    @Value("${app.scheduling.node-id:}")
+    private String nodeId;
+
+    @PostConstruct
+    void init() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = defaultNodeId();
+        }
+    }
+
+    /**
+     * 클러스터 전체에서 하나의 노드만 작업 실행
+     * @param minInterval 이 시간 안에 다른 노드가 이미 성공적으로 실행했다면 건너뜀 (노드 간 시계 오차 대응)
+     * @return 이 노드에서 실행했으면 true
+     */
+    public boolean runExclusive(String jobName, Duration minInterval, Runnable job) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (!tryLock(connection, jobName)) {
+                    log.info("예약 작업 건너뜀 - 다른 노드에서 실행 중: {}", jobName);
+                    return false;
+                }
+                if (!minInterval.isZero() && jobRunRepository.existsByJobNameAndStatusAndStartedAtAfter(
+                        jobName, JobRun.RunStatus.SUCCEEDED, LocalDateTime.now().minus(minInterval))) {
+                    log.info("예약 작업 건너뜀 - 최근 {} 안에 이미 실행됨: {}", minInterval, jobName);
+                    return false;
+                }
+                execute(jobName, job);
+                return true;
+            } finally {
+                // 트랜잭션 종료와 함께 잠금 해제
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            log.error("예약 작업 잠금 획득 실패 - 작업: {}, 오류: {}", jobName, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void execute(String jobName, Runnable job) {
+        JobRun run = jobRunRepository.save(JobRun.builder()
+                .jobName(jobName)
+                .nodeId(nodeId)
+                .status(JobRun.RunStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build());
+        try {
+            job.run();
+            run.finish(JobRun.RunStatus.SUCCEEDED, null, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("예약 작업 실패 - 작업: {}, 오류: {}", jobName, e.getMessage(), e);
+            run.finish(JobRun.RunStatus.FAILED, e.getMessage(), LocalDateTime.now());
+        } finally {
+            jobRunRepository.save(run);
+        }
+    }
+
+    // 작업 이름별 트랜잭션 advisory lock (대기하지 않고 즉시 결과 반환)
+    private boolean tryLock(Connection connection, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_xact_lock(hashtext(?))")) {
+            statement.setString(1, jobName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ManagementFactory.getRuntimeMXBean().getPid();
+    }
+}
@@ -0,0 +1,38 @@
+package com.hiswork.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 단일 노드/테스트용 이벤트 전달 - 같은 JVM의 SSE 연결에만 전송 (app.sse.event-bus=local)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sse.event-bus", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationEventBus implements NotificationEventBus {
+
+    private final SseConnectionHub sseConnectionHub;
+
+    @Override
+    public void publish(String userId, String eventName, long eventId, Object data) {
+        // 버퍼에 넣는 순서가 SSE id 순서이므로 커밋 직후 호출한 스레드에서 바로 넣고, 연결 전송은 허브가 비동기로 처리
+        Runnable delivery = () -> sseConnectionHub.send(userId, eventName, data);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 롤백된 알림이 전송되지 않도록 커밋 후 전송
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delivery.run();
+                }
+            });
+        } else {
+            delivery.run();
+        }
+    }
+}
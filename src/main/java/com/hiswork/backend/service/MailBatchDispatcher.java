@@ -0,0 +1,169 @@
+package com.hiswork.backend.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 메일을 풀의 SMTP 연결 수만큼 나눠 병렬 전송하는 배치 발송기 <br/>
+ * 연결은 SmtpTransportPool에서 빌려 재사용하고, 연결마다 설정된 초당 전송 수를 넘지 않도록 간격을 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailBatchDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final SmtpTransportPool smtpTransportPool;
+    @Qualifier("mailDispatchExecutor")
+    private final AsyncTaskExecutor mailDispatchExecutor;
+
+    // SMTP 연결당 초당 최대 전송 수 (Gmail 전송 제한 대응, 0 이하이면 제한 없음)
+    @Value("${app.mail.dispatch.rate-per-second:5}")
+    private double ratePerSecond;
+
+    /**
+     * 메일 목록을 SMTP 연결 풀로 전송
+     * @return 전송에 성공한 메일 수
+     */
+    public int dispatch(List<MimeMessage> messages) {
+        return (int) dispatchEach(messages).stream().filter(Objects::isNull).count();
+    }
+
+    /**
+     * 메일 목록을 SMTP 연결 풀로 전송하고 메일별 결과 반환
+     * @return messages와 같은 순서의 오류 목록 (성공한 메일은 null)
+     */
+    public List<Exception> dispatchEach(List<MimeMessage> messages) {
+        List<Exception> errors = new ArrayList<>(Collections.nCopies(messages.size(), null));
+        if (messages.isEmpty()) {
+            return errors;
+        }
+
+        if (!(mailSender instanceof JavaMailSenderImpl senderImpl)) {
+            // 연결을 직접 다룰 수 없는 구현체는 한 번에 넘김 (구현체가 연결 재사용 여부를 결정)
+            try {
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                e.getFailedMessages().forEach((message, error) -> {
+                    int index = messages.indexOf(message);
+                    if (index >= 0) {
+                        errors.set(index, error);
+                    }
+                });
+            } catch (MailException e) {
+                Collections.fill(errors, e);
+            }
+            return errors;
+        }
+
+        // SMTP 연결 수만큼 나눠 연결별로 병렬 전송 (전송 간격은 연결마다 따로 적용)
+        int lanes = Math.min(Math.max(1, smtpTransportPool.getMaxSize()), messages.size());
+        long intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0;
+        Exception[] laneErrors = new Exception[messages.size()];
+
+        List<Future<?>> futures = new ArrayList<>(lanes - 1);
+        for (int lane = 1; lane < lanes; lane++) {
+            int laneIndex = lane;
+            futures.add(mailDispatchExecutor.submit(
+                    () -> sendLane(senderImpl, messages, laneIndex, lanes, intervalNanos, laneErrors)));
+        }
+        sendLane(senderImpl, messages, 0, lanes, intervalNanos, laneErrors);
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("배치 메일 전송 작업 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        int sent = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            errors.set(i, laneErrors[i]);
+            if (laneErrors[i] == null) {
+                sent++;
+            }
+        }
+        log.info("배치 메일 전송 완료 - 연결: {}, 성공: {}, 실패: {}", lanes, sent, messages.size() - sent);
+        return errors;
+    }
+
+    // lane번째부터 lanes 간격의 메일을 연결 하나로 전송하고 결과를 errors에 기록
+    private void sendLane(JavaMailSenderImpl senderImpl, List<MimeMessage> messages,
+                          int lane, int lanes, long intervalNanos, Exception[] errors) {
+        SmtpTransportPool.PooledTransport pooled = null;
+        try {
+            for (int i = lane; i < messages.size(); i += lanes) {
+                MimeMessage message = messages.get(i);
+                try {
+                    if (pooled == null) {
+                        pooled = smtpTransportPool.borrow(senderImpl);
+                    }
+                    pooled.awaitSendSlot(intervalNanos);
+                    if (message.getSentDate() == null) {
+                        message.setSentDate(new Date());
+                    }
+                    message.saveChanges();
+                    pooled.transport().sendMessage(message, message.getAllRecipients());
+                    pooled.countSent();
+
+                    if (!pooled.hasCapacity()) {
+                        // 연결당 전송 수 한도 도달 - 반납(종료) 후 다음 메일에서 새 연결을 빌림
+                        smtpTransportPool.release(pooled, true);
+                        pooled = null;
+                    }
+                } catch (MessagingException | RuntimeException e) {
+                    // 한 건 실패가 나머지 전송을 막지 않도록 기록만 하고 계속 진행
+                    log.error("배치 메일 전송 실패 - 수신자: {}", recipientsOf(message), e);
+                    errors[i] = e;
+                    if (pooled != null && !pooled.transport().isConnected()) {
+                        // 끊어진 연결은 폐기하고 다음 메일에서 새 연결을 빌림
+                        smtpTransportPool.release(pooled, false);
+                        pooled = null;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    MessagingException interrupted = new MessagingException("메일 전송 대기 중 인터럽트", e);
+                    for (int j = i; j < messages.size(); j += lanes) {
+                        errors[j] = interrupted;
+                    }
+                    return;
+                }
+            }
+        } finally {
+            if (pooled != null) {
+                smtpTransportPool.release(pooled, true);
+            }
+        }
+    }
+
+    private String recipientsOf(MimeMessage message) {
+        try {
+            return Arrays.toString(message.getAllRecipients());
+        } catch (MessagingException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiswork.backend.domain.MailOutbox;
+import com.hiswork.backend.domain.MailType;
+import com.hiswork.backend.repository.MailOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 발송 대기열 관리
+ * 등록은 호출한 업무 트랜잭션에 참여하므로 롤백되면 메일도 발송되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.mail.outbox.claim-timeout-minutes:10}")
+    private long claimTimeoutMinutes;
+
+    /**
+     * 메일 발송 요청 등록 (호출자의 트랜잭션에 참여)
+     */
+    @Transactional
+    public MailOutbox enqueue(MailType mailType, String recipientEmail, Object command) {
+        MailOutbox outbox = MailOutbox.builder()
+                .mailType(mailType)
+                .recipientEmail(recipientEmail)
+                .payload(objectMapper.valueToTree(command))
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        outbox = mailOutboxRepository.save(outbox);
+        log.debug("메일 발송 대기열 등록 - ID: {}, 유형: {}, 수신자: {}", outbox.getId(), mailType, recipientEmail);
+        return outbox;
+    }
+
+    /**
+     * 전송할 메일을 batchSize만큼 가져와 SENDING 상태로 변경
+     */
+    @Transactional
+    public List<MailOutbox> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> batch = mailOutboxRepository.lockPendingBatch(now, batchSize);
+        batch.forEach(outbox -> outbox.markSending(now));
+        return batch;
+    }
+
+    /**
+     * 전송 결과 반영 - errors는 batch와 같은 순서이며, 성공한 건은 null
+     */
+    @Transactional
+    public void complete(List<MailOutbox> batch, List<Exception> errors) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutbox outbox = batch.get(i);
+            Exception error = errors.get(i);
+            if (error == null) {
+                outbox.markSent(now);
+            } else {
+                outbox.markFailed(error.getMessage(), now, maxAttempts, backoffBaseSeconds);
+                if (outbox.getStatus() == MailOutbox.OutboxStatus.DEAD) {
+                    log.error("메일 전송 최종 실패 - ID: {}, 유형: {}, 수신자: {}, 시도: {}회",
+                            outbox.getId(), outbox.getMailType(), outbox.getRecipientEmail(), outbox.getAttempts());
+                } else {
+                    log.warn("메일 전송 실패, 재시도 예약 - ID: {}, 시도: {}회, 다음 시도: {}",
+                            outbox.getId(), outbox.getAttempts(), outbox.getNextAttemptAt());
+                }
+            }
+        }
+        mailOutboxRepository.saveAll(batch);
+    }
+
+    /**
+     * 워커 중단으로 SENDING 상태에 머문 메일 회수
+     */
+    public int releaseStaleClaims() {
+        int released = mailOutboxRepository.releaseStaleClaims(LocalDateTime.now().minusMinutes(claimTimeoutMinutes));
+        if (released > 0) {
+            log.warn("전송 중 상태로 남은 메일 {}건을 대기 상태로 회수", released);
+        }
+        return released;
+    }
+}
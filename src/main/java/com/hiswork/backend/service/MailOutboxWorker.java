@@ -0,0 +1,103 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.domain.MailOutbox;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 발송 대기열 전송 워커
+ * 주기적으로 메일 전용 실행기에 워커 수만큼 전송 작업을 띄우고, 각 작업은 대기열을 비울 때까지 배치 단위로 전송한다.
+ * 스케줄러 스레드는 작업 완료를 기다리지 않으며, 이전 주기의 작업이 아직 실행 중이면 빈 자리만큼만 새로 띄운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxWorker {
+
+    private final MailOutboxService mailOutboxService;
+    private final MailService mailService;
+    @Qualifier("mailExecutor")
+    private final AsyncTaskExecutor mailExecutor;
+
+    @Value("${app.mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    // 실행 중이거나 결과를 아직 확인하지 않은 전송 작업
+    private final List<Future<Integer>> running = new ArrayList<>();
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:5000}")
+    public synchronized void poll() {
+        try {
+            mailOutboxService.releaseStaleClaims();
+        } catch (Exception e) {
+            log.error("메일 대기열 회수 실패", e);
+        }
+
+        collectFinished();
+
+        while (running.size() < workers) {
+            try {
+                running.add(mailExecutor.submit(this::drain));
+            } catch (TaskRejectedException e) {
+                // 실행기가 포화 상태면 남은 메일은 다음 주기에 처리
+                log.warn("메일 실행기 포화로 전송 워커 {}개만 실행", running.size());
+                break;
+            }
+        }
+    }
+
+    // 끝난 전송 작업의 결과를 기록하고 목록에서 제거
+    private void collectFinished() {
+        int sent = 0;
+        Iterator<Future<Integer>> iterator = running.iterator();
+        while (iterator.hasNext()) {
+            Future<Integer> result = iterator.next();
+            if (!result.isDone()) {
+                continue;
+            }
+            iterator.remove();
+            try {
+                sent += result.get();
+            } catch (ExecutionException e) {
+                log.error("메일 대기열 전송 중 오류", e.getCause());
+            } catch (CancellationException | InterruptedException e) {
+                // 완료된 작업이므로 기다리지 않음
+            }
+        }
+
+        if (sent > 0) {
+            log.info("메일 대기열 전송 완료 - {}건 처리", sent);
+        }
+    }
+
+    // 가져올 메일이 없을 때까지 배치 단위로 전송
+    private int drain() {
+        int processed = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<MailOutbox> batch = mailOutboxService.claimBatch(batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Exception> errors = mailService.deliver(batch);
+            mailOutboxService.complete(batch, errors);
+            processed += batch.size();
+        }
+        return processed;
+    }
+}
@@ -1,29 +1,50 @@
 package com.hiswork.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.MailOutbox;
+import com.hiswork.backend.domain.MailType;
 import com.hiswork.backend.domain.User;
 import com.hiswork.backend.dto.FailureRow;
 import com.hiswork.backend.dto.MailRequest;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+/**
+ * 메일 발송 서비스 <br/>
+ * send* 메서드는 바로 전송하지 않고 발송 대기열(mail_outbox)에 등록하며, 호출한 트랜잭션이 커밋된 경우에만 전송됨 <br/>
+ * 실제 전송은 MailOutboxWorker가 deliver()로 배치 단위 처리
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final MailBatchDispatcher mailBatchDispatcher;
+    private final MailOutboxService mailOutboxService;
+    private final ObjectMapper objectMapper;
 
     DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
@@ -35,86 +56,30 @@ public class MailService {
      * 편집자 할당 알림 메일 전송
      * @param command
      */
-    @Async
     public void sendAssignEditorNotification(MailRequest.EditorAssignmentEmailCommand command) {
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("documentTitle", command.getDocumentTitle());
-            ctx.setVariable("actionLink", linkDomain + "tasks/");
-            ctx.setVariable("creatorName", command.getCreatorName());
-            ctx.setVariable("editorName", command.getEditorName());
-            ctx.setVariable("dueDate", command.getDueDate() != null ? fmt.format(command.getDueDate()) : null);
-
-            String html = templateEngine.process("assign_editor_notification", ctx);
-
-            MimeMessage mime = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
-            helper.setTo(command.getEditorEmail());
-            helper.setSubject("[CoWorks] " + command.getDocumentTitle() + " 문서의 편집자로 지정되었음을 알려드립니다.");
-            helper.setText(html, true);
-
-
-//            helper.addInline("logoImage", new ClassPathResource("static/images/hiswork-logo.png"));
+        mailOutboxService.enqueue(MailType.EDITOR_ASSIGNMENT, command.getEditorEmail(), command);
+    }
 
-            mailSender.send(mime);
-        } catch (Exception e) {
-            throw new RuntimeException("편집자 할당 메일 전송 실패", e);
-        }
+    /**
+     * 편집자 할당 알림 메일 일괄 전송 (대량 문서 생성용) <br/>
+     * 대기열에 한꺼번에 등록되어 워커가 SMTP 연결 하나로 배치 전송
+     * @param commands
+     */
+    public void sendAssignEditorNotificationsInBatch(List<MailRequest.EditorAssignmentEmailCommand> commands) {
+        commands.forEach(this::sendAssignEditorNotification);
+        log.info("편집자 할당 메일 일괄 등록 - {}건", commands.size());
     }
 
     /**
      * 검토자 할당 알림 메일 전송
      * @param command
      */
-    @Async
     public void sendAssignReviewerNotification(MailRequest.ReviewerAssignmentEmailCommand command) {
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("documentTitle", command.getDocumentTitle());
-            ctx.setVariable("actionLink", linkDomain + "email-sign/" + command.getDocumentId());
-            ctx.setVariable("editorName", command.getEditorName());
-            ctx.setVariable("reviewerName", command.getReviewerName());
-            ctx.setVariable("reviewDueDateStr", command.getReviewDueDate() != null ? fmt.format(command.getReviewDueDate()) : null);
-
-            String html = templateEngine.process("assign_reviewer_notification", ctx);
-
-            MimeMessage mime = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
-            helper.setTo(command.getReviewerEmail());
-            helper.setSubject("[CoWorks] '" + command.getDocumentTitle() + "' 문서의 검토자로 지정되었음을 알려드립니다.");
-            helper.setText(html, true);
-
-//            helper.addInline("logoImage", new ClassPathResource("static/images/hiswork-logo.png"));
-            mailSender.send(mime);
-        } catch (Exception e) {
-            throw new RuntimeException("서명자 할당 메일 전송 실패", e);
-        }
+        mailOutboxService.enqueue(MailType.REVIEWER_ASSIGNMENT, command.getReviewerEmail(), command);
     }
 
-    @Async
     public void sendAssignRejectNotification(MailRequest.RejectionAssignmentEmailCommand command) {
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("documentTitle", command.getDocumentTitle());
-            ctx.setVariable("actionLink", linkDomain + "documents/" + command.getDocumentId() + "/edit");
-            ctx.setVariable("editorName", command.getEditorName());
-            ctx.setVariable("rejecterName", command.getRejecterName());
-            ctx.setVariable("rejectionReason", command.getRejectionReason());
-            ctx.setVariable("rejectionDate", fmt.withZone(ZoneId.of("Asia/Seoul")).format(ZonedDateTime.now()));
-            ctx.setVariable("dueDate", command.getDueDate() != null ? fmt.format(command.getDueDate()) : null);
-
-            String html = templateEngine.process("assign_rejection_notification", ctx);
-
-            MimeMessage mime = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
-            helper.setTo(command.getEditorEmail());
-            helper.setSubject("[CoWorks] " + command.getDocumentTitle() + " 문서가 반려되었음을 알려드립니다.");
-            helper.setText(html, true);
-
-            mailSender.send(mime);
-        } catch (Exception e) {
-            throw new RuntimeException("문서 반려 메일 전송 실패", e);
-        }
+        mailOutboxService.enqueue(MailType.REJECTION, command.getEditorEmail(), command);
     }
 
     /**
@@ -235,36 +200,13 @@ public class MailService {
      * 관리자가 작업자에게 메시지 전송
      * @param command
      */
-    @Async
     public void sendAdminMessageToWorker(MailRequest.AdminMessageEmailCommand command) {
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("recipientName", command.getRecipientName());
-            ctx.setVariable("senderName", command.getSenderName());
-            ctx.setVariable("message", command.getMessage());
-            ctx.setVariable("documentTitle", command.getDocumentTitle());
-            ctx.setVariable("documentLink", command.getDocumentId() != null 
-                ? linkDomain + "documents/" + command.getDocumentId() 
-                : linkDomain + "tasks/");
-
-            String html = templateEngine.process("admin_message_notification", ctx);
-
-            MimeMessage mime = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
-            helper.setTo(command.getRecipientEmail());
-            helper.setSubject("[CoWorks] 관리자로부터 메시지가 도착했습니다.");
-            helper.setText(html, true);
-
-            mailSender.send(mime);
-        } catch (Exception e) {
-            throw new RuntimeException("관리자 메시지 메일 전송 실패", e);
-        }
+        mailOutboxService.enqueue(MailType.ADMIN_MESSAGE, command.getRecipientEmail(), command);
     }
     
     /**
      * 서명 요청 이메일 전송 (익명 사용자용 - 토큰 포함)
      */
-    @Async
     public void sendSigningRequestEmail(
         String signerEmail, 
         String signerName, 
@@ -272,50 +214,255 @@ public class MailService {
         String signingUrl,
         java.time.LocalDateTime expiresAt
     ) {
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("signerName", signerName);
-            ctx.setVariable("documentTitle", documentTitle);
-            ctx.setVariable("signingUrl", signingUrl);
-            ctx.setVariable("expiresAt", fmt.format(expiresAt));
-
-            String html = templateEngine.process("signing_request_email", ctx);
-
-            MimeMessage mime = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
-            helper.setTo(signerEmail);
-            helper.setSubject("[CoWorks] '" + documentTitle + "' 문서의 서명이 요청되었습니다.");
-            helper.setText(html, true);
-
-            mailSender.send(mime);
-        } catch (Exception e) {
-            throw new RuntimeException("서명 요청 메일 전송 실패", e);
-        }
+        mailOutboxService.enqueue(MailType.SIGNING_REQUEST, signerEmail, MailRequest.SigningRequestEmailCommand.builder()
+                .signerEmail(signerEmail)
+                .signerName(signerName)
+                .documentTitle(documentTitle)
+                .signingUrl(signingUrl)
+                .expiresAt(expiresAt)
+                .build());
     }
 
     /**
      * 마감일 임박 알림 메일 전송 (작성 중인 문서 대상)
      */
-    @Async
     public void sendDeadlineReminderNotification(MailRequest.DeadlineReminderEmailCommand command) {
-        try {
-            Context ctx = new Context();
-            ctx.setVariable("documentTitle", command.getDocumentTitle());
-            ctx.setVariable("actionLink", linkDomain + "documents/" + command.getDocumentId() + "/edit");
-            ctx.setVariable("editorName", command.getEditorName());
-            ctx.setVariable("deadline", command.getDeadline() != null ? fmt.format(command.getDeadline()) : null);
+        mailOutboxService.enqueue(MailType.DEADLINE_REMINDER, command.getEditorEmail(), command);
+    }
 
-            String html = templateEngine.process("deadline_reminder_notification", ctx);
+    /**
+     * 하루 요약 메일 (마감 임박 문서 + 읽지 않은 알림을 한 통으로 발송)
+     */
+    public void sendDailyDigest(MailRequest.DailyDigestEmailCommand command) {
+        mailOutboxService.enqueue(MailType.DAILY_DIGEST, command.getRecipientEmail(), command);
+    }
 
-            MimeMessage mime = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
-            helper.setTo(command.getEditorEmail());
-            helper.setSubject("[CoWorks] '" + command.getDocumentTitle() + "' 문서의 마감일이 내일입니다.");
-            helper.setText(html, true);
+    /**
+     * 대기열 메일 전송 (MailOutboxWorker 전용) <br/>
+     * 같은 템플릿/공통 변수 조합은 컨텍스트를 한 번만 만들어 두고 메일마다 수신자별 값(이름, 문서 제목, 링크 등)만 바꿔
+     * 렌더링한 뒤 SMTP 연결 풀로 전송 (템플릿 파싱은 캐시되므로 수신자별 렌더링 비용이 작고, 모든 값이 Thymeleaf로 이스케이프됨)
+     * @return batch와 같은 순서의 오류 목록 (성공한 메일은 null)
+     */
+    public List<Exception> deliver(List<MailOutbox> batch) {
+        List<Exception> errors = new ArrayList<>(Collections.nCopies(batch.size(), null));
+        Map<List<Object>, Context> contextByVariables = new HashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        List<Integer> messageIndexes = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutbox outbox = batch.get(i);
+            try {
+                MailContent content = toContent(outbox);
+                Context ctx = contextByVariables.computeIfAbsent(
+                        List.of(content.templateName(), content.variables(), content.recipientVariables().keySet()),
+                        key -> sharedContext(content));
+                String html = render(content, ctx);
+
+                messages.add(createMessage(outbox.getRecipientEmail(), content.subject(), html));
+                messageIndexes.add(i);
+            } catch (Exception e) {
+                log.error("메일 생성 실패 - ID: {}, 유형: {}", outbox.getId(), outbox.getMailType(), e);
+                errors.set(i, e);
+            }
+        }
 
-            mailSender.send(mime);
-        } catch (Exception e) {
-            throw new RuntimeException("마감일 알림 메일 전송 실패", e);
+        List<Exception> sendErrors = mailBatchDispatcher.dispatchEach(messages);
+        for (int j = 0; j < messageIndexes.size(); j++) {
+            errors.set(messageIndexes.get(j), sendErrors.get(j));
         }
+        return errors;
+    }
+
+    private MailContent toContent(MailOutbox outbox) throws JsonProcessingException {
+        return switch (outbox.getMailType()) {
+            case EDITOR_ASSIGNMENT -> editorAssignmentContent(
+                    objectMapper.treeToValue(outbox.getPayload(), MailRequest.EditorAssignmentEmailCommand.class));
+            case REVIEWER_ASSIGNMENT -> reviewerAssignmentContent(
+                    objectMapper.treeToValue(outbox.getPayload(), MailRequest.ReviewerAssignmentEmailCommand.class));
+            case REJECTION -> rejectionContent(
+                    objectMapper.treeToValue(outbox.getPayload(), MailRequest.RejectionAssignmentEmailCommand.class));
+            case ADMIN_MESSAGE -> adminMessageContent(
+                    objectMapper.treeToValue(outbox.getPayload(), MailRequest.AdminMessageEmailCommand.class));
+            case SIGNING_REQUEST -> signingRequestContent(
+                    objectMapper.treeToValue(outbox.getPayload(), MailRequest.SigningRequestEmailCommand.class));
+            case DEADLINE_REMINDER -> deadlineReminderContent(
+                    objectMapper.treeToValue(outbox.getPayload(), MailRequest.DeadlineReminderEmailCommand.class));
+            case DAILY_DIGEST -> dailyDigestContent(
+                    objectMapper.treeToValue(outbox.getPayload(), MailRequest.DailyDigestEmailCommand.class));
+        };
+    }
+
+    private MailContent editorAssignmentContent(MailRequest.EditorAssignmentEmailCommand command) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("actionLink", linkDomain + "tasks/");
+        variables.put("creatorName", command.getCreatorName());
+        variables.put("dueDate", command.getDueDate() != null ? fmt.format(command.getDueDate()) : null);
+
+        Map<String, Object> recipientVariables = new HashMap<>();
+        recipientVariables.put("documentTitle", command.getDocumentTitle());
+        recipientVariables.put("editorName", command.getEditorName());
+
+        return new MailContent("assign_editor_notification", variables, recipientVariables,
+                "[CoWorks] " + command.getDocumentTitle() + " 문서의 편집자로 지정되었음을 알려드립니다.");
+    }
+
+    private MailContent reviewerAssignmentContent(MailRequest.ReviewerAssignmentEmailCommand command) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("editorName", command.getEditorName());
+        variables.put("reviewDueDateStr", command.getReviewDueDate() != null ? fmt.format(command.getReviewDueDate()) : null);
+
+        Map<String, Object> recipientVariables = new HashMap<>();
+        recipientVariables.put("documentTitle", command.getDocumentTitle());
+        recipientVariables.put("actionLink", linkDomain + "email-sign/" + command.getDocumentId());
+        recipientVariables.put("reviewerName", command.getReviewerName());
+
+        return new MailContent("assign_reviewer_notification", variables, recipientVariables,
+                "[CoWorks] '" + command.getDocumentTitle() + "' 문서의 검토자로 지정되었음을 알려드립니다.");
+    }
+
+    private MailContent rejectionContent(MailRequest.RejectionAssignmentEmailCommand command) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("editorName", command.getEditorName());
+        variables.put("rejecterName", command.getRejecterName());
+        variables.put("rejectionReason", command.getRejectionReason());
+        variables.put("rejectionDate", fmt.withZone(ZoneId.of("Asia/Seoul")).format(ZonedDateTime.now()));
+        variables.put("dueDate", command.getDueDate() != null ? fmt.format(command.getDueDate()) : null);
+
+        Map<String, Object> recipientVariables = new HashMap<>();
+        recipientVariables.put("documentTitle", command.getDocumentTitle());
+        recipientVariables.put("actionLink", linkDomain + "documents/" + command.getDocumentId() + "/edit");
+
+        return new MailContent("assign_rejection_notification", variables, recipientVariables,
+                "[CoWorks] " + command.getDocumentTitle() + " 문서가 반려되었음을 알려드립니다.");
+    }
+
+    private MailContent adminMessageContent(MailRequest.AdminMessageEmailCommand command) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("senderName", command.getSenderName());
+        variables.put("message", command.getMessage());
+
+        Map<String, Object> recipientVariables = new HashMap<>();
+        recipientVariables.put("recipientName", command.getRecipientName());
+        recipientVariables.put("documentTitle", command.getDocumentTitle());
+        recipientVariables.put("documentLink", command.getDocumentId() != null
+                ? linkDomain + "documents/" + command.getDocumentId()
+                : linkDomain + "tasks/");
+
+        return new MailContent("admin_message_notification", variables, recipientVariables,
+                "[CoWorks] 관리자로부터 메시지가 도착했습니다.");
+    }
+
+    private MailContent signingRequestContent(MailRequest.SigningRequestEmailCommand command) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("expiresAt", fmt.format(command.getExpiresAt()));
+
+        Map<String, Object> recipientVariables = new HashMap<>();
+        recipientVariables.put("signerName", command.getSignerName());
+        recipientVariables.put("documentTitle", command.getDocumentTitle());
+        recipientVariables.put("signingUrl", command.getSigningUrl());
+
+        return new MailContent("signing_request_email", variables, recipientVariables,
+                "[CoWorks] '" + command.getDocumentTitle() + "' 문서의 서명이 요청되었습니다.");
+    }
+
+    private MailContent deadlineReminderContent(MailRequest.DeadlineReminderEmailCommand command) {
+        DocumentRole.TaskRole taskRole = command.getTaskRole() != null ? command.getTaskRole() : DocumentRole.TaskRole.EDITOR;
+        boolean overdue = command.getDeadline() != null && command.getDeadline().isBefore(ZonedDateTime.now());
+        String dueLabel = dueLabel(command.getDeadline());
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("deadline", command.getDeadline() != null ? fmt.format(command.getDeadline()) : null);
+        variables.put("overdue", overdue);
+        variables.put("dueLabel", dueLabel);
+        variables.put("taskAction", switch (taskRole) {
+            case REVIEWER -> "문서 검토";
+            case SIGNER -> "서명";
+            default -> "문서 작성";
+        });
+
+        Map<String, Object> recipientVariables = new HashMap<>();
+        recipientVariables.put("documentTitle", command.getDocumentTitle());
+        recipientVariables.put("actionLink", taskRole == DocumentRole.TaskRole.EDITOR
+                ? linkDomain + "documents/" + command.getDocumentId() + "/edit"
+                : linkDomain + "documents/" + command.getDocumentId());
+        recipientVariables.put("editorName", command.getEditorName());
+
+        String subject = overdue
+                ? "[CoWorks] '" + command.getDocumentTitle() + "' 문서의 마감일이 지났습니다."
+                : "[CoWorks] '" + command.getDocumentTitle() + "' 문서의 마감일이 " + dueLabel + "입니다.";
+        return new MailContent("deadline_reminder_notification", variables, recipientVariables, subject);
+    }
+
+    // 마감까지 남은 날짜 표시 (오늘, 내일, N일 후)
+    private String dueLabel(ZonedDateTime deadline) {
+        if (deadline == null) {
+            return "내일";
+        }
+        long daysLeft = ChronoUnit.DAYS.between(LocalDate.now(deadline.getZone()), deadline.toLocalDate());
+        if (daysLeft <= 0) {
+            return "오늘";
+        }
+        return daysLeft == 1 ? "내일" : daysLeft + "일 후";
+    }
+
+    private MailContent dailyDigestContent(MailRequest.DailyDigestEmailCommand command) {
+        List<Map<String, Object>> reminders = new ArrayList<>();
+        for (MailRequest.DailyDigestEmailCommand.ReminderItem reminder : command.getReminders()) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("documentTitle", reminder.getDocumentTitle());
+            item.put("deadline", reminder.getDeadline() != null ? fmt.format(reminder.getDeadline()) : null);
+            item.put("actionLink", linkDomain + "documents/" + reminder.getDocumentId() + "/edit");
+            reminders.add(item);
+        }
+
+        List<Map<String, Object>> notifications = new ArrayList<>();
+        for (MailRequest.DailyDigestEmailCommand.NotificationItem notification : command.getNotifications()) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("title", notification.getTitle());
+            item.put("message", notification.getMessage());
+            item.put("createdAt", notification.getCreatedAt() != null ? fmt.format(notification.getCreatedAt()) : null);
+            item.put("actionLink", notification.getActionUrl() != null
+                    ? linkDomain + notification.getActionUrl().replaceFirst("^/", "")
+                    : linkDomain);
+            notifications.add(item);
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("recipientName", command.getRecipientName());
+        variables.put("reminders", reminders);
+        variables.put("notifications", notifications);
+        variables.put("omittedNotificationCount", command.getOmittedNotificationCount());
+        variables.put("actionLink", linkDomain + "tasks/");
+
+        // 목록 자체가 수신자별로 달라 공유할 렌더링이 없으므로 전체를 한 번에 렌더링
+        return new MailContent("daily_digest_notification", variables, Map.of(),
+                "[CoWorks] 오늘의 알림 요약 - 마감 임박 " + reminders.size() + "건, 새 알림 "
+                        + (notifications.size() + command.getOmittedNotificationCount()) + "건");
+    }
+
+    private Context sharedContext(MailContent content) {
+        Context ctx = new Context();
+        ctx.setVariables(content.variables());
+        return ctx;
+    }
+
+    // 공통 변수 컨텍스트에 수신자별 변수만 덮어써 렌더링 (같은 조합의 메일은 같은 수신자별 변수 이름을 가지므로 이전 값이 남지 않음)
+    private String render(MailContent content, Context ctx) {
+        ctx.setVariables(content.recipientVariables());
+        return mailTemplateRenderer.render(content.templateName(), ctx);
+    }
+
+    private MimeMessage createMessage(String to, String subject, String html) throws MessagingException {
+        MimeMessage mime = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mime, true, StandardCharsets.UTF_8.name());
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(html, true);
+        return mime;
+    }
+
+    // 렌더링할 템플릿, 공통 템플릿 변수, 수신자별 템플릿 변수, 메일 제목
+    private record MailContent(String templateName, Map<String, Object> variables,
+                               Map<String, Object> recipientVariables, String subject) {
     }
 }
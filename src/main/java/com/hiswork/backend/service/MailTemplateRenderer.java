@@ -0,0 +1,84 @@
+package com.hiswork.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * 메일 템플릿 렌더링 <br/>
+ * 기동 시 모든 메일 템플릿을 한 번씩 처리해 파싱 결과를 템플릿 캐시에 올려두고,
+ * 템플릿별 렌더링 시간을 mail.template.render 지표(히스토그램)로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailTemplateRenderer {
+
+    private static final String TEMPLATE_LOCATION = "classpath:/mail-templates/*.html";
+
+    private final TemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> renderTimers = new ConcurrentHashMap<>();
+
+    public String render(String templateName, Map<String, Object> variables) {
+        Context ctx = new Context();
+        ctx.setVariables(variables);
+        return render(templateName, ctx);
+    }
+
+    /**
+     * 이미 만든 컨텍스트로 렌더링 (같은 공통 변수로 여러 수신자 메일을 만들 때 수신자별 변수만 바꿔 재사용)
+     */
+    public String render(String templateName, Context ctx) {
+        return renderTimer(templateName).record(() -> templateEngine.process(templateName, ctx));
+    }
+
+    /**
+     * 첫 메일 전송 때 템플릿 파싱 비용이 들지 않도록 미리 캐시에 올림
+     * (템플릿 resolver가 cacheable이므로 이후에는 파싱된 템플릿을 재사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Resource[] templates = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+            int warmed = 0;
+            for (Resource template : templates) {
+                String filename = template.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                String templateName = filename.substring(0, filename.length() - ".html".length());
+                try {
+                    templateEngine.process(templateName, new Context());
+                    renderTimer(templateName);
+                    warmed++;
+                } catch (Exception e) {
+                    log.warn("메일 템플릿 사전 로딩 실패 - 템플릿: {}, 오류: {}", templateName, e.getMessage());
+                }
+            }
+            log.info("메일 템플릿 사전 로딩 완료 - {}개", warmed);
+        } catch (IOException e) {
+            log.warn("메일 템플릿 목록 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private Timer renderTimer(String templateName) {
+        return renderTimers.computeIfAbsent(templateName, name -> Timer.builder("mail.template.render")
+                .description("메일 템플릿 렌더링 시간")
+                .tag("template", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
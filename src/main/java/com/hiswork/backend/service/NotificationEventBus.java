@@ -0,0 +1,17 @@
+package com.hiswork.backend.service;
+
+/**
+ * 실시간 알림 이벤트 전달 경로 <br/>
+ * 발행한 이벤트는 (트랜잭션 안이라면 커밋 후) 모든 노드에 전달되고,
+ * 각 노드는 자신에게 연결된 SSE 클라이언트에게만 전송한다.
+ */
+public interface NotificationEventBus {
+
+    /**
+     * @param userId 수신 사용자 ID
+     * @param eventName SSE 이벤트 이름
+     * @param eventId 알림 ID (SSE id는 SseConnectionHub가 사용자별 순번으로 따로 붙임)
+     * @param data 이벤트 데이터 (JSON으로 직렬화 가능해야 함)
+     */
+    void publish(String userId, String eventName, long eventId, Object data);
+}
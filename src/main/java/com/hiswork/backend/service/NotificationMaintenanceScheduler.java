@@ -0,0 +1,66 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.repository.NotificationCounterRepository;
+import com.hiswork.backend.repository.NotificationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림 관리 스케줄러
+ * 읽지 않은 알림 카운터를 실제 알림 수와 주기적으로 맞추고 (누락된 증감 보정),
+ * 보관 기간이 지난 읽은 알림을 배치 단위로 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationMaintenanceScheduler {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final JobCoordinator jobCoordinator;
+
+    @Value("${app.notification.retention-days:90}")
+    private long retentionDays;
+
+    @Value("${app.notification.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    /**
+     * 읽지 않은 알림 카운터 보정 (기본 매시 10분 실행)
+     */
+    @Scheduled(cron = "${app.notification.counter-reconcile-cron:0 10 * * * ?}")
+    public void reconcileUnreadCounters() {
+        jobCoordinator.runExclusive("notification-counter-reconcile", Duration.ofMinutes(30), () -> {
+            int corrected = notificationCounterRepository.reconcileAll();
+            if (corrected > 0) {
+                log.warn("읽지 않은 알림 카운터 {}개 보정", corrected);
+            }
+        });
+    }
+
+    /**
+     * 오래된 읽은 알림 정리 (기본 매일 새벽 3시 30분 실행)
+     * 배치마다 별도 트랜잭션으로 삭제하여 잠금 시간을 짧게 유지 (읽지 않은 알림은 남겨둠)
+     */
+    @Scheduled(cron = "${app.notification.purge-cron:0 30 3 * * ?}")
+    public void purgeReadNotifications() {
+        jobCoordinator.runExclusive("notification-purge", Duration.ofHours(12), () -> {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+            log.info("오래된 알림 정리 시작 - 기준 시각: {}", before);
+
+            int deleted = 0;
+            int batch;
+            do {
+                batch = notificationRepository.deleteReadBefore(before, purgeBatchSize);
+                deleted += batch;
+            } while (batch == purgeBatchSize);
+
+            log.info("오래된 알림 정리 완료 - {}개 삭제", deleted);
+        });
+    }
+}
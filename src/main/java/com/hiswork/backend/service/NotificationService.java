@@ -3,9 +3,13 @@ package com.hiswork.backend.service;
 import com.hiswork.backend.domain.Notification;
 import com.hiswork.backend.domain.NotificationType;
 import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.NotificationFeedResponse;
+import com.hiswork.backend.dto.NotificationResponse;
+import com.hiswork.backend.repository.NotificationCounterRepository;
 import com.hiswork.backend.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -13,10 +17,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -25,9 +28,15 @@ import java.util.concurrent.ConcurrentHashMap;
 public class NotificationService {
     
     private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final NotificationEventBus notificationEventBus;
     
-    // SSE 연결 관리 (사용자ID -> SseEmitter)
-    private final Map<String, SseEmitter> sseEmitters = new ConcurrentHashMap<>();
+    // SSE 연결 관리 (사용자당 여러 연결)
+    private final SseConnectionHub sseConnectionHub;
+    
+    // 알림 목록 한 번에 조회할 수 있는 최대 개수
+    @Value("${app.notification.feed-max-size:100}")
+    private int maxFeedSize;
     
     /**
      * 새로운 알림 생성
@@ -44,6 +53,7 @@ public class NotificationService {
                 .build();
         
         notification = notificationRepository.save(notification);
+        notificationCounterRepository.addUnreadCount(recipient.getId(), 1);
         
         // 실시간 알림 전송
         sendRealTimeNotification(recipient.getId(), notification);
@@ -57,25 +67,67 @@ public class NotificationService {
      * 특정 사용자의 알림 목록 조회 (페이지네이션)
      */
     @Transactional(readOnly = true)
-    public Page<Notification> getUserNotifications(User user, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return notificationRepository.findByRecipientUserOrderByCreatedAtDesc(user, pageable);
+    public Page<NotificationResponse> getUserNotifications(User user, int page, int size) {
+        Pageable pageable = PageRequest.of(page, clampFeedSize(size));
+        return notificationRepository.findByRecipientUserOrderByCreatedAtDesc(user, pageable)
+                .map(NotificationResponse::from);
     }
     
     /**
-     * 특정 사용자의 읽지 않은 알림 조회
+     * 특정 사용자의 알림 목록 조회 (커서 기반, 최신순)
+     * cursor가 없으면 첫 페이지, 있으면 해당 위치 이전의 알림을 조회
      */
     @Transactional(readOnly = true)
-    public List<Notification> getUnreadNotifications(User user) {
-        return notificationRepository.findByRecipientUserAndIsReadFalseOrderByCreatedAtDesc(user);
+    public NotificationFeedResponse getNotificationFeed(User user, String cursor, int size, boolean unreadOnly) {
+        int limit = clampFeedSize(size);
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        
+        List<NotificationResponse> items;
+        if (cursor == null || cursor.isBlank()) {
+            items = unreadOnly
+                    ? notificationRepository.findUnreadFeed(user.getId(), pageable)
+                    : notificationRepository.findFeed(user.getId(), pageable);
+        } else {
+            NotificationFeedResponse.Cursor position = NotificationFeedResponse.Cursor.decode(cursor);
+            items = unreadOnly
+                    ? notificationRepository.findUnreadFeedBefore(user.getId(), position.createdAt(), position.id(), pageable)
+                    : notificationRepository.findFeedBefore(user.getId(), position.createdAt(), position.id(), pageable);
+        }
+        return toFeed(items, limit, cursor);
     }
     
     /**
-     * 특정 사용자의 읽지 않은 알림 개수 조회
+     * 커서 이후 새로 생긴 알림 조회 (오래된 순)
+     * SSE 재연결 시 마지막으로 받은 알림 이후의 변경분만 가져오는 용도
+     */
+    @Transactional(readOnly = true)
+    public NotificationFeedResponse getNotificationsSince(User user, String since, int size) {
+        int limit = clampFeedSize(size);
+        NotificationFeedResponse.Cursor position = NotificationFeedResponse.Cursor.decode(since);
+        List<NotificationResponse> items = notificationRepository.findFeedAfter(
+                user.getId(), position.createdAt(), position.id(), PageRequest.of(0, limit + 1));
+        return toFeed(items, limit, since);
+    }
+    
+    /**
+     * 특정 사용자의 읽지 않은 알림 조회 (최신순, 최대 size개)
      */
     @Transactional(readOnly = true)
+    public List<NotificationResponse> getUnreadNotifications(User user, int size) {
+        return notificationRepository.findUnreadFeed(user.getId(), PageRequest.of(0, clampFeedSize(size)));
+    }
+    
+    /**
+     * 특정 사용자의 읽지 않은 알림 개수 조회
+     * 카운터 테이블에서 바로 읽고, 카운터가 없을 때만 COUNT로 초기화
+     */
     public long getUnreadNotificationCount(User user) {
-        return notificationRepository.countByRecipientUserAndIsReadFalse(user);
+        return notificationCounterRepository.findUnreadCount(user.getId())
+                .orElseGet(() -> {
+                    long count = notificationRepository.countByRecipientUserAndIsReadFalse(user);
+                    notificationCounterRepository.setUnreadCount(user.getId(), count);
+                    return count;
+                });
     }
     
     /**
@@ -90,19 +142,23 @@ public class NotificationService {
             throw new RuntimeException("해당 알림에 접근할 권한이 없습니다.");
         }
         
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notification.markAsRead();
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        if (wasUnread) {
+            notificationCounterRepository.addUnreadCount(user.getId(), -1);
+        }
+        return saved;
     }
     
     /**
-     * 모든 읽지 않은 알림을 읽음으로 표시
+     * 모든 읽지 않은 알림을 읽음으로 표시 (UPDATE 한 번으로 처리)
      */
     public void markAllAsRead(User user) {
-        List<Notification> unreadNotifications = getUnreadNotifications(user);
-        unreadNotifications.forEach(Notification::markAsRead);
-        notificationRepository.saveAll(unreadNotifications);
+        int updated = notificationRepository.markAllAsReadByRecipientUser(user, LocalDateTime.now());
+        notificationCounterRepository.setUnreadCount(user.getId(), 0);
         
-        log.info("사용자 {}의 모든 알림을 읽음으로 처리: {}개", user.getName(), unreadNotifications.size());
+        log.info("사용자 {}의 모든 알림을 읽음으로 처리: {}개", user.getName(), updated);
     }
     
     /**
@@ -117,88 +173,71 @@ public class NotificationService {
             throw new RuntimeException("해당 알림을 삭제할 권한이 없습니다.");
         }
         
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notificationRepository.delete(notification);
+        if (wasUnread) {
+            notificationCounterRepository.addUnreadCount(user.getId(), -1);
+        }
         log.info("알림 삭제 완료 - 사용자: {}, 알림ID: {}", user.getName(), notificationId);
     }
     
     /**
-     * 특정 사용자의 모든 알림 삭제
+     * 특정 사용자의 모든 알림 삭제 (DELETE 한 번으로 처리)
      */
     public void deleteAllNotifications(User user) {
-        List<Notification> userNotifications = notificationRepository.findByRecipientUserOrderByCreatedAtDesc(user);
-        notificationRepository.deleteAll(userNotifications);
+        int deleted = notificationRepository.deleteAllByRecipientUser(user);
+        notificationCounterRepository.setUnreadCount(user.getId(), 0);
         
-        log.info("사용자 {}의 모든 알림 삭제 완료: {}개", user.getName(), userNotifications.size());
+        log.info("사용자 {}의 모든 알림 삭제 완료: {}개", user.getName(), deleted);
     }
     
     /**
      * SSE 연결 생성
+     * lastEventId가 있으면 그 이후 놓친 실시간 알림을 다시 전송
      */
-    public SseEmitter createSseEmitter(String userId) {
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-        
-        emitter.onCompletion(() -> {
-            log.info("SSE 연결 완료: 사용자={}", userId);
-            sseEmitters.remove(userId);
-        });
-        
-        emitter.onTimeout(() -> {
-            log.info("SSE 연결 타임아웃: 사용자={}", userId);
-            sseEmitters.remove(userId);
-        });
-        
-        emitter.onError((ex) -> {
-            log.error("SSE 연결 오류: 사용자={}", userId, ex);
-            sseEmitters.remove(userId);
-        });
-        
-        sseEmitters.put(userId, emitter);
-        
-        try {
-            // 연결 확인용 초기 메시지 전송
-            emitter.send(SseEmitter.event()
-                    .name("connected")
-                    .data("SSE 연결이 설정되었습니다"));
-        } catch (IOException e) {
-            log.error("SSE 초기 메시지 전송 실패: 사용자={}", userId, e);
-            sseEmitters.remove(userId);
-            emitter.completeWithError(e);
-        }
-        
-        log.info("SSE 연결 생성: 사용자={}", userId);
-        return emitter;
+    public SseEmitter createSseEmitter(String userId, String lastEventId) {
+        return sseConnectionHub.connect(userId, lastEventId);
     }
     
     /**
      * 실시간 알림 전송
+     * 이벤트 버스로 발행하여 사용자가 어느 노드에 연결되어 있든 전달되도록 함 (커밋 후 전달)
      */
     private void sendRealTimeNotification(String userId, Notification notification) {
-        SseEmitter emitter = sseEmitters.get(userId);
-        
-        if (emitter != null) {
-            try {
-                // 현재 사용자의 읽지 않은 알림 개수 계산
-                long unreadCount = getUnreadNotificationCount(notification.getRecipientUser());
-                
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(Map.of(
-                                "id", notification.getId(),
-                                "title", notification.getTitle(),
-                                "message", notification.getMessage(),
-                                "type", notification.getType(),
-                                "actionUrl", notification.getActionUrl(),
-                                "createdAt", notification.getCreatedAt(),
-                                "unreadCount", unreadCount
-                        )));
-                
-                log.info("실시간 알림 전송 성공: 사용자={}, 알림ID={}, 읽지않은개수={}", userId, notification.getId(), unreadCount);
-            } catch (IOException e) {
-                log.error("실시간 알림 전송 실패: 사용자={}, 알림ID={}", userId, notification.getId(), e);
-                sseEmitters.remove(userId);
-            }
-        } else {
-            log.debug("SSE 연결이 없어 실시간 알림 전송 불가: 사용자={}", userId);
-        }
+        // 현재 사용자의 읽지 않은 알림 개수 계산
+        long unreadCount = getUnreadNotificationCount(notification.getRecipientUser());
+        
+        notificationEventBus.publish(userId, "notification", notification.getId(), Map.of(
+                "id", notification.getId(),
+                "title", notification.getTitle(),
+                "message", notification.getMessage(),
+                "type", notification.getType(),
+                "actionUrl", notification.getActionUrl(),
+                "createdAt", notification.getCreatedAt(),
+                "cursor", new NotificationFeedResponse.Cursor(notification.getCreatedAt(), notification.getId()).encode(),
+                "unreadCount", unreadCount
+        ));
+        
+        log.debug("실시간 알림 발행: 사용자={}, 알림ID={}, 읽지않은개수={}", userId, notification.getId(), unreadCount);
+    }
+    
+    // 요청 개수를 1 ~ feed-max-size 범위로 제한
+    private int clampFeedSize(int size) {
+        return Math.max(1, Math.min(size, maxFeedSize));
+    }
+    
+    // size + 1개를 조회한 결과에서 다음 페이지 여부를 판단하고 마지막 항목으로 커서 생성
+    private NotificationFeedResponse toFeed(List<NotificationResponse> items, int limit, String requestCursor) {
+        boolean hasMore = items.size() > limit;
+        List<NotificationResponse> page = hasMore ? items.subList(0, limit) : items;
+        String nextCursor = page.isEmpty()
+                ? requestCursor
+                : NotificationFeedResponse.Cursor.of(page.get(page.size() - 1)).encode();
+        
+        return NotificationFeedResponse.builder()
+                .items(page)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
-}
\ No newline at end of file
+}
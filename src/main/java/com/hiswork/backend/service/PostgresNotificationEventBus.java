@@ -0,0 +1,138 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 이벤트 전달 (app.sse.event-bus=postgres) <br/>
+ * 발행은 pg_notify로 하므로 호출한 트랜잭션이 커밋될 때 전달되고, 롤백되면 전달되지 않는다.
+ * 노드마다 전용 연결 하나로 채널을 LISTEN하다가 받은 이벤트를 자신에게 연결된 SSE 클라이언트에게 전송한다.
+ * NOTIFY는 커밋 순서대로 도착하므로 리스너 스레드에서 바로 SseConnectionHub 버퍼에 넣어 그 순서를 유지한다.
+ * NOTIFY 크기 제한을 넘는 이벤트는 ID만 보내고, 받은 노드는 replay-gap으로 클라이언트가 목록을 다시 조회하게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sse.event-bus", havingValue = "postgres")
+public class PostgresNotificationEventBus implements NotificationEventBus {
+
+    private static final String CHANNEL = "notification_events";
+    // NOTIFY payload 최대 크기(8000바이트)보다 여유 있게 제한
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    // 클라이언트가 알림 목록을 다시 조회하도록 하는 이벤트 (SseConnectionHub 재전송 범위 초과와 같은 이름)
+    private static final String REPLAY_GAP_EVENT = "replay-gap";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseConnectionHub sseConnectionHub;
+
+    @Value("${app.sse.listen-poll-ms:1000}")
+    private int listenPollMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        listenerThread.interrupt();
+    }
+
+    @Override
+    public void publish(String userId, String eventName, long eventId, Object data) {
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("userId", userId);
+        message.put("event", eventName);
+        message.put("eventId", eventId);
+        message.set("data", objectMapper.valueToTree(data));
+
+        String payload = message.toString();
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            // NOTIFY 크기 제한을 넘는 이벤트는 데이터 없이 ID만 발행 (커밋 후 모든 노드에 전달됨)
+            log.warn("알림 이벤트가 너무 커서 ID만 발행: 사용자={}, 이벤트ID={}, 크기={}", userId, eventId, payload.length());
+            message.remove("data");
+            payload = message.toString();
+        }
+
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CHANNEL, payload);
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("알림 이벤트 수신 시작 - 채널: {}", CHANNEL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(listenPollMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.error("알림 이벤트 수신 연결 오류, 재연결 시도: {}", e.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            JsonNode message = objectMapper.readTree(payload);
+            String userId = message.path("userId").asText();
+            long eventId = message.path("eventId").asLong();
+            if (!message.has("data")) {
+                // 데이터 없이 ID만 온 이벤트는 replay-gap으로 알려 클라이언트가 알림 목록에서 직접 가져오도록 함
+                sseConnectionHub.send(userId, REPLAY_GAP_EVENT, objectMapper.createObjectNode().put("notificationId", eventId));
+                return;
+            }
+            // 이 노드에 연결이 없어도 재연결에 대비해 버퍼에는 보관
+            sseConnectionHub.send(userId, message.path("event").asText(), message.get("data"));
+        } catch (Exception e) {
+            log.warn("알림 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            TimeUnit.SECONDS.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
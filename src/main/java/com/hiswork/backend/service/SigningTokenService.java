@@ -3,6 +3,7 @@ package com.hiswork.backend.service;
 import com.hiswork.backend.domain.SigningToken;
 import com.hiswork.backend.exception.InvalidTokenException;
 import com.hiswork.backend.repository.SigningTokenRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ public class SigningTokenService {
     
     private final SigningTokenRepository tokenRepository;
     private final MailService mailService;
+    private final JobCoordinator jobCoordinator;
 
     @Value("${app.frontend.url:http://localhost:5173}")
     private String frontendUrl;
@@ -141,19 +143,22 @@ public class SigningTokenService {
     }
     
     /**
-     * 만료된 토큰 정리 (매일 새벽 2시)
+     * 만료된 토큰 정리 (매일 새벽 2시, 클러스터에서 한 노드만 실행)
      */
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
     public void cleanupExpiredTokens() {
+        jobCoordinator.runExclusive("signing-token-cleanup", Duration.ofHours(12), this::deleteExpiredTokens);
+    }
+
+    private void deleteExpiredTokens() {
         log.info("만료된 토큰 정리 시작");
         
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime oneMonthAgo = now.minusMonths(1);
         
         // 사용된 토큰 중 1개월 이상 지난 것 삭제
-        tokenRepository.deleteByExpiresAtBeforeAndUsedTrue(oneMonthAgo);
+        int deleted = tokenRepository.deleteByExpiresAtBeforeAndUsedTrue(oneMonthAgo);
         
-        log.info("만료된 토큰 정리 완료");
+        log.info("만료된 토큰 정리 완료 - {}개 삭제", deleted);
     }
 }
@@ -0,0 +1,183 @@
+package com.hiswork.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증까지 완료된 SMTP 연결을 재사용하는 연결 풀 <br/>
+ * 메일마다 TCP + STARTTLS + AUTH를 새로 맺지 않도록 연결을 보관하고,
+ * 연결당 전송 수가 한도를 넘거나 일정 시간 사용되지 않으면 연결을 닫고 새로 맺는다.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+
+    @Value("${app.mail.smtp-pool.max-size:3}")
+    private int maxSize;
+
+    @Value("${app.mail.smtp-pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${app.mail.smtp-pool.idle-timeout-seconds:60}")
+    private long idleTimeoutSeconds;
+
+    @Value("${app.mail.smtp-pool.borrow-timeout-seconds:30}")
+    private long borrowTimeoutSeconds;
+
+    // 최근 반납된 연결이 앞쪽에 오도록 관리 (오래 쉰 연결은 뒤에서 정리)
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private Semaphore permits;
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @PostConstruct
+    void init() {
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * 연결 대여 - 풀에 쉬고 있는 연결이 있으면 재사용하고, 없으면 새로 연결
+     */
+    public PooledTransport borrow(JavaMailSenderImpl senderImpl) throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new MessagingException("SMTP 연결 풀 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("SMTP 연결 대기 중 인터럽트", e);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (pooled.isReusable()) {
+                    return pooled;
+                }
+                pooled.close();
+            }
+            return new PooledTransport(connect(senderImpl));
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 연결 반납 - 정상 연결은 풀에 보관하고, 오류가 난 연결은 닫음
+     */
+    public void release(PooledTransport pooled, boolean healthy) {
+        try {
+            if (healthy && pooled.isReusable()) {
+                pooled.lastUsedAt = System.nanoTime();
+                idle.offerFirst(pooled);
+            } else {
+                pooled.close();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 유휴 시간이 지난 연결 정리 (서버가 먼저 끊기 전에 닫음)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.smtp-pool.evict-interval-ms:30000}")
+    public void evictIdle() {
+        List<PooledTransport> expired = new ArrayList<>();
+        for (PooledTransport pooled : idle) {
+            if (pooled.isIdleExpired() && idle.remove(pooled)) {
+                expired.add(pooled);
+            }
+        }
+        expired.forEach(PooledTransport::close);
+        if (!expired.isEmpty()) {
+            log.debug("유휴 SMTP 연결 {}개 정리", expired.size());
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.close();
+        }
+    }
+
+    private Transport connect(JavaMailSenderImpl senderImpl) throws MessagingException {
+        Transport transport = senderImpl.getSession().getTransport(senderImpl.getProtocol());
+        transport.connect(senderImpl.getHost(), senderImpl.getPort(), senderImpl.getUsername(), senderImpl.getPassword());
+        log.debug("새 SMTP 연결 생성 - 호스트: {}", senderImpl.getHost());
+        return transport;
+    }
+
+    /**
+     * 풀에서 관리하는 SMTP 연결 (전송 수와 마지막 사용 시각을 함께 기록)
+     */
+    public class PooledTransport {
+        private final Transport transport;
+        private int sentCount;
+        private long lastUsedAt = System.nanoTime();
+        // 이 연결로 다음 메일을 보낼 수 있는 시각 (연결마다 전송 간격을 따로 유지)
+        private long nextSendAt = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public Transport transport() {
+            return transport;
+        }
+
+        public void countSent() {
+            sentCount++;
+        }
+
+        /**
+         * 이 연결의 전송 간격이 지날 때까지 대기 (간격이 0 이하이면 바로 반환)
+         */
+        public void awaitSendSlot(long intervalNanos) throws InterruptedException {
+            long waitNanos = nextSendAt - System.nanoTime();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            nextSendAt = System.nanoTime() + intervalNanos;
+        }
+
+        // 연결당 전송 수 한도에 도달하면 false (반납 시 연결을 닫고 새로 맺음)
+        public boolean hasCapacity() {
+            return sentCount < maxMessagesPerConnection;
+        }
+
+        // 전송 수 한도 이내이고 유휴 시간이 지나지 않았으며 아직 연결된 경우만 재사용
+        boolean isReusable() {
+            return hasCapacity() && !isIdleExpired() && transport.isConnected();
+        }
+
+        boolean isIdleExpired() {
+            return System.nanoTime() - lastUsedAt > TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        }
+
+        void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
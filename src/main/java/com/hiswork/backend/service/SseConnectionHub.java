@@ -0,0 +1,456 @@
+package com.hiswork.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 연결 관리 <br/>
+ * 사용자당 여러 연결(브라우저 탭)을 유지하고, 하나의 스케줄러로 모든 연결에 주기적으로 heartbeat를 보내
+ * 끊어진 연결을 바로 정리한다. 전송에 실패한 연결은 즉시 제거한다.
+ * 사용자별로 최근 이벤트를 버퍼에 보관하여, 재연결 시 Last-Event-ID 이후 놓친 이벤트만 다시 보낸다.
+ * SSE id는 알림 ID가 아니라 버퍼에 넣은 순서대로 붙이는 사용자별 순번이다 (알림 ID는 커밋 순서와 다를 수 있음).
+ * 전송은 버퍼를 잠근 채 아직 보내지 않은 이벤트를 순서대로 보내는 방식이라, 전송 작업이 늦거나 버려져도 순서가 바뀌거나 빠지지 않는다.
+ * 연결 수는 sse.connections, 연결된 사용자 수는 sse.connected.users, 사용자당 최대 연결 수는 sse.connections.per.user.max 지표로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseConnectionHub {
+
+    private final MeterRegistry meterRegistry;
+    @Qualifier("notificationExecutor")
+    private final AsyncTaskExecutor notificationExecutor;
+
+    // 연결 유지 시간 - 만료되면 브라우저(EventSource)가 자동으로 재연결
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    // 사용자당 최대 연결 수 (초과 시 가장 오래된 연결을 닫음)
+    @Value("${app.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    // 재연결 시 다시 보낼 수 있도록 사용자별로 보관하는 최근 이벤트 수
+    @Value("${app.sse.replay-buffer-size:50}")
+    private int replayBufferSize;
+
+    // 최근 이벤트 보관 시간 (지나면 재연결해도 다시 보내지 않음)
+    @Value("${app.sse.replay-ttl-ms:600000}")
+    private long replayTtlMs;
+
+    // 사용자 ID -> 연결 목록 (추가 순서 유지)
+    private final Map<String, Set<SseEmitter>> connections = new ConcurrentHashMap<>();
+
+    // 사용자 ID -> 최근 이벤트 (보관, 전송, 재전송은 이 버퍼를 잠그고 수행하여 순서 보장)
+    private final Map<String, ReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+
+    private Counter evictions;
+    private Counter replayed;
+    private Counter replayGaps;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("sse.connections", connections, map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connected.users", connections, Map::size)
+                .description("SSE로 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections.per.user.max", connections,
+                        map -> map.values().stream().mapToInt(Set::size).max().orElse(0))
+                .description("사용자당 최대 SSE 연결 수")
+                .register(meterRegistry);
+        evictions = Counter.builder("sse.evictions")
+                .description("전송 실패로 정리된 SSE 연결 수")
+                .register(meterRegistry);
+        replayed = Counter.builder("sse.replayed.events")
+                .description("재연결 시 다시 보낸 SSE 이벤트 수")
+                .register(meterRegistry);
+        replayGaps = Counter.builder("sse.replay.gaps")
+                .description("버퍼에 없어 다시 보내지 못한 재연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 연결 등록 (같은 사용자의 기존 연결은 유지)
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID, 없으면 null)
+     */
+    public SseEmitter connect(String userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        emitter.onCompletion(() -> {
+            log.debug("SSE 연결 완료: 사용자={}", userId);
+            remove(userId, emitter);
+        });
+        emitter.onTimeout(() -> {
+            log.debug("SSE 연결 타임아웃: 사용자={}", userId);
+            emitter.complete();
+            remove(userId, emitter);
+        });
+        emitter.onError(ex -> {
+            log.debug("SSE 연결 오류: 사용자={}, 오류={}", userId, ex.getMessage());
+            remove(userId, emitter);
+        });
+
+        // 등록과 재전송 사이에 발행된 이벤트가 빠지거나 중복되지 않도록 버퍼를 잠근 채 처리
+        // 아직 보내지 않은 이벤트를 기존 연결에 먼저 보내야 새 연결에 재전송분과 겹쳐 가지 않음
+        withBuffer(userId, buffer -> {
+            flush(userId, buffer);
+            register(userId, emitter);
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(userId, emitter, buffer, lastEventId.trim());
+            }
+        });
+        return emitter;
+    }
+
+    public boolean isConnected(String userId) {
+        Set<SseEmitter> userConnections = connections.get(userId);
+        return userConnections != null && !userConnections.isEmpty();
+    }
+
+    /**
+     * 이벤트를 사용자 버퍼에 순번을 붙여 보관하고, 연결로의 전송은 notificationExecutor에서 처리
+     * 호출한 스레드의 순서대로 순번이 붙으므로 이벤트 전달 경로(리스너 스레드, 커밋 후 콜백)에서 바로 호출해야 함
+     * 연결이 없는 사용자의 이벤트도 보관하여 재연결 시 다시 보낼 수 있음
+     */
+    public void send(String userId, String eventName, Object data) {
+        withBuffer(userId, buffer -> buffer.add(eventName, data, System.currentTimeMillis(), replayBufferSize));
+
+        try {
+            notificationExecutor.execute(() -> flush(userId));
+        } catch (TaskRejectedException e) {
+            // 이벤트는 버퍼에 있으므로 다음 이벤트나 heartbeat 때 순서대로 전송됨
+            log.debug("SSE 전송 작업 거절, 다음 전송 때 함께 전송: 사용자={}", userId);
+        }
+    }
+
+    /**
+     * 사용자의 모든 연결에 이벤트 전송 (버퍼에 보관하지 않음)
+     * @return 전송에 성공한 연결 수
+     */
+    public int send(String userId, SseEmitter.SseEventBuilder event) {
+        Set<SseEmitter> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return 0;
+        }
+
+        int delivered = 0;
+        for (SseEmitter emitter : userConnections) {
+            try {
+                emitter.send(event);
+                delivered++;
+            } catch (IOException | IllegalStateException e) {
+                evict(userId, emitter, e);
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * 모든 연결에 heartbeat 전송 (공용 스케줄러 하나에서 실행)
+     * 클라이언트가 떠난 연결은 여기서 쓰기 실패로 정리됨
+     */
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        int evicted = 0;
+        for (Map.Entry<String, Set<SseEmitter>> entry : connections.entrySet()) {
+            for (SseEmitter emitter : entry.getValue()) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    evict(entry.getKey(), emitter, e);
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.info("SSE heartbeat 전송 실패로 연결 {}개 정리", evicted);
+        }
+
+        flushAndExpireReplayBuffers();
+    }
+
+    /**
+     * 전송 작업이 버려져 남은 이벤트를 보내고, 보관 시간이 지난 이벤트를 버림
+     * 연결이 없는 사용자의 빈 버퍼는 잠근 채 제거하고 제거 표시를 남겨, 동시에 이 버퍼를 얻은 전송이 새 버퍼로 다시 시도하게 함
+     */
+    private void flushAndExpireReplayBuffers() {
+        long expiredBefore = System.currentTimeMillis() - replayTtlMs;
+        for (Map.Entry<String, ReplayBuffer> entry : replayBuffers.entrySet()) {
+            String userId = entry.getKey();
+            ReplayBuffer buffer = entry.getValue();
+            synchronized (buffer) {
+                flush(userId, buffer);
+                buffer.expire(expiredBefore);
+                if (buffer.isEmpty() && !isConnected(userId) && replayBuffers.remove(userId, buffer)) {
+                    buffer.markRemoved();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        connections.values().forEach(set -> set.forEach(SseEmitter::complete));
+        connections.clear();
+        replayBuffers.clear();
+    }
+
+    private void register(String userId, SseEmitter emitter) {
+        Set<SseEmitter> userConnections = connections.compute(userId, (id, existing) -> {
+            Set<SseEmitter> set = existing != null ? existing : new CopyOnWriteArraySet<>();
+            set.add(emitter);
+            return set;
+        });
+        trimOldest(userId, userConnections);
+
+        try {
+            // 연결 확인용 초기 메시지 전송
+            emitter.send(SseEmitter.event()
+                    .name("connected")
+                    .data("SSE 연결이 설정되었습니다"));
+        } catch (IOException e) {
+            log.warn("SSE 초기 메시지 전송 실패: 사용자={}", userId);
+            evict(userId, emitter, e);
+        }
+
+        log.info("SSE 연결 생성: 사용자={}, 사용자 연결 수={}", userId, userConnections.size());
+    }
+
+    /**
+     * 버퍼를 얻어 잠근 채 action 실행
+     * heartbeat가 빈 버퍼를 제거한 직후에 얻은 버퍼라면 새 버퍼로 다시 시도 (제거된 버퍼에 넣은 이벤트는 재전송되지 않으므로)
+     */
+    private void withBuffer(String userId, Consumer<ReplayBuffer> action) {
+        while (true) {
+            ReplayBuffer buffer = replayBuffers.computeIfAbsent(userId, id -> new ReplayBuffer(newEpoch()));
+            synchronized (buffer) {
+                if (!buffer.isRemoved()) {
+                    action.accept(buffer);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void flush(String userId) {
+        ReplayBuffer buffer = replayBuffers.get(userId);
+        if (buffer == null) {
+            return;
+        }
+        synchronized (buffer) {
+            flush(userId, buffer);
+        }
+    }
+
+    /**
+     * 버퍼에서 아직 보내지 않은 이벤트를 순서대로 모든 연결에 전송 (버퍼를 잠근 채 호출)
+     * 보내기 전에 버퍼에서 밀려난 이벤트가 있으면 replay-gap으로 알림
+     */
+    private void flush(String userId, ReplayBuffer buffer) {
+        if (buffer.hasUnsentDropped()) {
+            replayGaps.increment();
+            send(userId, SseEmitter.event()
+                    .name("replay-gap")
+                    .data(Map.of("lastEventId", buffer.eventId(buffer.sentUpTo()))));
+        }
+        for (BufferedEvent event : buffer.after(buffer.sentUpTo())) {
+            send(userId, toSseEvent(buffer, event));
+        }
+        buffer.markSent();
+    }
+
+    /**
+     * Last-Event-ID 이후 버퍼에 있는 이벤트를 새 연결에만 다시 전송
+     * 다른 버퍼(다른 노드, 제거 후 새로 만든 버퍼)의 ID이거나 버퍼가 그 이후를 모두 담고 있지 않으면
+     * replay-gap 이벤트로 알려 클라이언트가 알림 목록을 보충하도록 함
+     */
+    private void replay(String userId, SseEmitter emitter, ReplayBuffer buffer, String lastEventId) {
+        try {
+            Long lastSequence = buffer.parseSequence(lastEventId);
+            if (lastSequence == null || !buffer.covers(lastSequence)) {
+                replayGaps.increment();
+                log.debug("SSE 재전송 범위 초과: 사용자={}, Last-Event-ID={}", userId, lastEventId);
+                emitter.send(SseEmitter.event()
+                        .name("replay-gap")
+                        .data(Map.of("lastEventId", lastEventId)));
+                if (lastSequence == null) {
+                    return;
+                }
+            }
+
+            List<BufferedEvent> missed = buffer.after(lastSequence);
+            for (BufferedEvent event : missed) {
+                emitter.send(toSseEvent(buffer, event));
+            }
+            if (!missed.isEmpty()) {
+                replayed.increment(missed.size());
+                log.debug("SSE 이벤트 재전송: 사용자={}, Last-Event-ID={}, {}개", userId, lastEventId, missed.size());
+            }
+        } catch (IOException | IllegalStateException e) {
+            evict(userId, emitter, e);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(ReplayBuffer buffer, BufferedEvent event) {
+        return SseEmitter.event()
+                .id(buffer.eventId(event.sequence()))
+                .name(event.name())
+                .data(event.data());
+    }
+
+    // 버퍼마다 다른 값이라 다른 노드나 이전 버퍼의 Last-Event-ID를 구분할 수 있음
+    private static String newEpoch() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    }
+
+    private void trimOldest(String userId, Set<SseEmitter> userConnections) {
+        while (userConnections.size() > maxConnectionsPerUser) {
+            SseEmitter oldest = userConnections.iterator().next();
+            oldest.complete();
+            remove(userId, oldest);
+            log.debug("SSE 사용자당 연결 수 초과로 가장 오래된 연결 종료: 사용자={}", userId);
+        }
+    }
+
+    private void evict(String userId, SseEmitter emitter, Exception cause) {
+        if (remove(userId, emitter)) {
+            evictions.increment();
+            log.debug("SSE 연결 정리: 사용자={}, 원인={}", userId, cause.getMessage());
+            try {
+                emitter.completeWithError(cause);
+            } catch (Exception ignored) {
+                // 이미 종료된 연결
+            }
+        }
+    }
+
+    private boolean remove(String userId, SseEmitter emitter) {
+        boolean[] removed = {false};
+        connections.computeIfPresent(userId, (id, set) -> {
+            removed[0] = set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+        return removed[0];
+    }
+
+    private record BufferedEvent(long sequence, String name, Object data, long recordedAt) {
+    }
+
+    /**
+     * 사용자별 최근 이벤트 링 버퍼 (호출자가 객체를 잠그고 사용) <br/>
+     * 이벤트마다 1부터 증가하는 순번을 붙이고, SSE id는 "버퍼 epoch-순번" 형식
+     */
+    private static class ReplayBuffer {
+        private final String epoch;
+        private final Deque<BufferedEvent> events = new ArrayDeque<>();
+        private long lastSequence;
+        // 이 순번 이후의 이벤트는 모두 버퍼에 있음 (밀려나거나 만료된 이벤트는 알 수 없음)
+        private long coveredAfter;
+        // 이 순번까지는 연결에 전송함
+        private long sentUpTo;
+        private boolean removed;
+
+        ReplayBuffer(String epoch) {
+            this.epoch = epoch;
+        }
+
+        void add(String name, Object data, long recordedAt, int capacity) {
+            events.addLast(new BufferedEvent(++lastSequence, name, data, recordedAt));
+            while (events.size() > capacity) {
+                drop(events.pollFirst());
+            }
+        }
+
+        void expire(long expiredBefore) {
+            // 아직 보내지 않은 이벤트는 만료시키지 않음
+            while (!events.isEmpty() && events.peekFirst().sequence() <= sentUpTo
+                    && events.peekFirst().recordedAt() < expiredBefore) {
+                drop(events.pollFirst());
+            }
+        }
+
+        boolean isEmpty() {
+            return events.isEmpty();
+        }
+
+        boolean covers(long sequence) {
+            return sequence >= coveredAfter && sequence <= lastSequence;
+        }
+
+        List<BufferedEvent> after(long sequence) {
+            List<BufferedEvent> result = new ArrayList<>();
+            for (BufferedEvent event : events) {
+                if (event.sequence() > sequence) {
+                    result.add(event);
+                }
+            }
+            return result;
+        }
+
+        long sentUpTo() {
+            return sentUpTo;
+        }
+
+        // 보내기 전에 버퍼에서 밀려난 이벤트가 있음
+        boolean hasUnsentDropped() {
+            return coveredAfter > sentUpTo;
+        }
+
+        void markSent() {
+            sentUpTo = lastSequence;
+        }
+
+        boolean isRemoved() {
+            return removed;
+        }
+
+        void markRemoved() {
+            removed = true;
+        }
+
+        String eventId(long sequence) {
+            return epoch + "-" + sequence;
+        }
+
+        // 이 버퍼에서 붙인 ID가 아니면 null
+        Long parseSequence(String eventId) {
+            String prefix = epoch + "-";
+            if (!eventId.startsWith(prefix)) {
+                return null;
+            }
+            try {
+                return Long.parseLong(eventId.substring(prefix.length()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private void drop(BufferedEvent event) {
+            coveredAfter = Math.max(coveredAfter, event.sequence());
+        }
+    }
+}
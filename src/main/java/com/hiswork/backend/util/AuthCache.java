@@ -0,0 +1,106 @@
+package com.hiswork.backend.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiswork.backend.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 검증을 마친 JWT -> 사용자 캐시 <br/>
+ * 토큰 원문 대신 SHA-256 해시를 키로 보관하고, 크기와 TTL(토큰 만료 시각 이전까지)로 제한한다.
+ * 사용자 정보를 변경한 곳에서는 evictUser로 해당 사용자의 항목을 비워야 한다.
+ * 캐시 적중률은 cache.gets{cache=auth} 지표로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.auth-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.auth-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, Entry> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth");
+    }
+
+    /**
+     * 캐시된 사용자 조회 (없거나 토큰이 만료되었으면 null)
+     */
+    public User get(String token) {
+        String key = hash(token);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.tokenExpiresAt() != null && entry.tokenExpiresAt().getTime() <= System.currentTimeMillis()) {
+            cache.invalidate(key);
+            return null;
+        }
+        return entry.user();
+    }
+
+    public void put(String token, User user, Date tokenExpiresAt) {
+        cache.put(hash(token), new Entry(user, tokenExpiresAt));
+    }
+
+    /**
+     * 사용자 정보 변경 시 해당 사용자의 모든 토큰 항목 제거
+     * 트랜잭션 안에서 호출하면 커밋 후 제거 (커밋 전에 비우면 그 사이 인증한 요청이 이전 사용자 정보를 다시 캐시함)
+     */
+    public void evictUser(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        } else {
+            evictNow(userId);
+        }
+    }
+
+    private void evictNow(String userId) {
+        cache.asMap().values().removeIf(entry -> entry.user().getId().equals(userId));
+        log.debug("인증 캐시 제거: 사용자={}", userId);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(User user, Date tokenExpiresAt) {
+    }
+}
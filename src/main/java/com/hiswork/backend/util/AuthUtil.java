@@ -2,15 +2,19 @@ package com.hiswork.backend.util;
 
 import com.hiswork.backend.domain.User;
 import com.hiswork.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 
 @Component
 @RequiredArgsConstructor
@@ -18,30 +22,72 @@ import io.jsonwebtoken.Claims;
 public class AuthUtil {
     
     private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final AuthCache authCache;
+    private final MeterRegistry meterRegistry;
     
-    @Value("${jwt.secret_key}")
-    private String SECRET_KEY;
+    // 캐시에 없는 토큰의 서명 검증 시간
+    private Timer tokenVerifyTimer;
     
+    @PostConstruct
+    void registerMetrics() {
+        tokenVerifyTimer = Timer.builder("auth.token.verify")
+                .description("JWT 파싱/서명 검증 시간 (인증 캐시 미적중 시)")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 현재 사용자 조회
+     * JwtAuthenticationFilter가 인증한 요청은 SecurityContext의 값을 그대로 사용하고 (토큰 파싱/DB 조회 없음),
+     * 그 외에는 요청의 토큰으로 인증
+     * 반환된 사용자는 요청마다 복사본이므로 변경해도 캐시에 영향 없음 (저장 시에는 authCache.evictUser 호출)
+     */
     public User getCurrentUser(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof User user) {
+            return user.toBuilder().build();
+        }
+        
         String token = extractTokenFromRequest(request);
         if (token == null) {
             throw new RuntimeException("인증 토큰이 없습니다.");
         }
+        return authenticate(token).toBuilder().build();
+    }
+    
+    /**
+     * 토큰 검증 후 사용자 조회
+     * 검증된 토큰은 캐시하여 같은 토큰의 다음 요청은 토큰 파싱과 DB 조회 없이 처리 (캐시된 객체이므로 변경 금지)
+     */
+    public User authenticate(String token) {
+        User cached = authCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
         
-        Key key = JwtUtil.getSigningKey(SECRET_KEY);
-
-        if (!JwtUtil.validateToken(token, key)) {
+        // 토큰은 한 번만 파싱/검증
+        Claims claims;
+        try {
+            claims = tokenVerifyTimer.record(() -> JwtUtil.getClaims(token, jwtUtil.getAccessTokenKey()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
             throw new RuntimeException("유효하지 않은 토큰입니다.");
         }
         
-        String uniqueId = JwtUtil.getUniqueIdFromToken(token, key);
+        User user = loadUser(claims);
+        authCache.put(token, user, claims.getExpiration());
+        return user;
+    }
+    
+    private User loadUser(Claims claims) {
+        // 1) 히즈넷 로그인 토큰: uniqueId
+        String uniqueId = claims.get("uniqueId", String.class);
         if (uniqueId != null && !uniqueId.isBlank()) {
             return userRepository.findById(uniqueId)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: uniqueId=" + uniqueId));
         }
 
         // 2) 일반 토큰: subject(email)
-        Claims claims = JwtUtil.getClaims(token, key);
         String email = claims.getSubject();
         log.info("JWT 토큰에서 추출된 이메일: {}", email);
 
@@ -53,7 +99,7 @@ public class AuthUtil {
                 .orElseThrow(() -> new RuntimeException("이메일로 사용자를 찾을 수 없습니다: " + email));
     }
     
-    private String extractTokenFromRequest(HttpServletRequest request) {
+    public String extractTokenFromRequest(HttpServletRequest request) {
         // 1. Authorization 헤더에서 토큰 추출 시도 (localStorage 방식)
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,57 @@
+package com.hiswork.backend.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 무거운 작업의 동시 실행 수를 제한하는 유틸 <br/>
+ * 작업은 호출한 스레드에서 그대로 실행하므로 요청 스레드를 하나만 쓰고, SecurityContext/요청 범위 값도 유지된다.
+ * 동시 실행 수(maxConcurrent)를 넘으면 maxWaiting개까지만 순서를 기다리고, 그보다 많으면 busyMessage로 즉시 실패시킨다.
+ */
+public class BoundedExecution {
+
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Runnable onRejected;
+
+    public BoundedExecution(int maxConcurrent, int maxWaiting, Runnable onRejected) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.onRejected = onRejected;
+    }
+
+    public <T> T call(Callable<T> task, String busyMessage) throws Exception {
+        if (!permits.tryAcquire()) {
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                onRejected.run();
+                throw new RuntimeException(busyMessage);
+            }
+            try {
+                permits.acquire();
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        try {
+            return task.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 실행 중인 작업 수
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    // 순서를 기다리는 작업 수
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,103 @@
+package com.hiswork.backend.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 호출용 간단한 서킷 브레이커 <br/>
+ * 연속 실패가 failureThreshold에 도달하면 openDuration 동안 호출을 바로 거절(OPEN)하고,
+ * 시간이 지나면 시험 호출 하나만 허용(HALF_OPEN)하여 성공하면 닫고 실패하면 다시 연다.
+ * HALF_OPEN에서 벗어나는 것은 시험 호출의 결과뿐이며, 열리기 전에 시작된 호출의 결과는 상태를 바꾸지 않는다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * tryAcquire가 내주는 호출 허가 - 결과를 알릴 때 그대로 돌려줘야 함
+     */
+    public record Permit(boolean trial) {
+    }
+
+    private static final Permit NORMAL = new Permit(false);
+    private static final Permit TRIAL = new Permit(true);
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 허가 - null이면 호출하지 말고 바로 실패 처리
+     * 허가를 받은 호출자는 결과에 따라 반드시 같은 허가로 onSuccess/onFailure 중 하나를 호출해야 함
+     */
+    public Permit tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return NORMAL;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAt.get() < openDurationNanos) {
+            return null;
+        }
+        // 열린 시간이 지났으면 시험 호출 하나만 허용
+        if (trialInFlight.compareAndSet(false, true)) {
+            state = State.HALF_OPEN;
+            return TRIAL;
+        }
+        return null;
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.trial()) {
+            log.info("서킷 브레이커 닫힘: {}", name);
+            consecutiveFailures.set(0);
+            state = State.CLOSED;
+            trialInFlight.set(false);
+            return;
+        }
+        // 열리기 전에 시작된 호출의 늦은 성공은 무시
+        if (state == State.CLOSED) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.trial()) {
+            log.warn("서킷 브레이커 다시 열림: {}, 시험 호출 실패", name);
+            openedAt.set(System.nanoTime());
+            state = State.OPEN;
+            trialInFlight.set(false);
+            return;
+        }
+        // 이미 열린 뒤(OPEN/HALF_OPEN)에 끝난 일반 호출의 실패는 열린 시간을 늘리지 않음
+        if (state != State.CLOSED) {
+            return;
+        }
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold) {
+            log.warn("서킷 브레이커 열림: {}, 연속 실패 {}회", name, failures);
+            openedAt.set(System.nanoTime());
+            state = State.OPEN;
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+}
@@ -2,6 +2,7 @@ package com.hiswork.backend.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,8 +24,23 @@ public class JwtUtil {
     @Value("${jwt.expiration:86400000}") // 24시간 (밀리초)
     private int jwtExpirationMs;
 
+    // 서명 키는 시작 시 한 번만 생성 (요청마다 만들지 않음)
+    private Key hmacShaKey;
+    private Key accessTokenKey;
+
+    @PostConstruct
+    void initKeys() {
+        hmacShaKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        accessTokenKey = getSigningKey(jwtSecret);
+    }
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return hmacShaKey;
+    }
+
+    // 히즈넷 로그인 토큰(createToken) 서명/검증용 키
+    public Key getAccessTokenKey() {
+        return accessTokenKey;
     }
 
     public String generateToken(String email) {
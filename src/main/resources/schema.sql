@@ -0,0 +1,31 @@
+-- JPA(@Index)로 표현할 수 없는 인덱스 정의
+-- spring.jpa.defer-datasource-initialization=true 설정으로 Hibernate 스키마 갱신 이후 실행됨
+
+-- 만료 스테이징 정리용: 커밋/취소되지 않은(READY) 스테이징만 생성 시각 순으로 인덱싱
+CREATE INDEX IF NOT EXISTS idx_bulk_staging_ready_created_at
+    ON bulk_staging (created_at)
+    WHERE status = 'READY';
+
+-- 메일 발송 대기열: 워커가 전송할 메일만 다음 시도 시각 순으로 조회
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_pending_next_attempt
+    ON mail_outbox (next_attempt_at, id)
+    WHERE status = 'PENDING';
+
+-- 메일 발송 대기열: 중단된 워커가 잡고 있던 메일 회수용
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_sending_claimed
+    ON mail_outbox (claimed_at)
+    WHERE status = 'SENDING';
+
+-- 알림 보관 기간 정리용: 읽은 알림만 생성 시각 순으로 인덱싱
+CREATE INDEX IF NOT EXISTS idx_notifications_read_created_at
+    ON notifications (created_at)
+    WHERE is_read = true;
+
+-- 가입 전 임시 할당 연결용: 아직 연결되지 않은(pending_email이 있는) 역할만 이메일/학번으로 인덱싱
+CREATE INDEX IF NOT EXISTS idx_documents_role_pending_email
+    ON documents_role (pending_email)
+    WHERE pending_email IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_documents_role_pending_user
+    ON documents_role (assigned_user_id)
+    WHERE pending_email IS NOT NULL;
@@ -0,0 +1,224 @@
+package com.hiswork.backend.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hiswork.backend.domain.Position;
+import com.hiswork.backend.domain.Role;
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.BulkCommitRequest;
+import com.hiswork.backend.dto.BulkCommitResponse;
+import com.hiswork.backend.dto.BulkPreviewResponse;
+import com.hiswork.backend.repository.TemplateRepository;
+import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.service.BulkDocumentService;
+import com.hiswork.backend.service.MailOutboxWorker;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 대량 문서 생성 성능 측정 (./gradlew benchmark) <br/>
+ * 100/1천/1만 행 CSV를 미리보기 → 커밋 → 메일 대기열 전송 순서로 처리하고
+ * 구간별 초당 행 수, 실행 쿼리 수, 최대 힙 사용량을 출력한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Import(BulkBenchmarkTest.FakeMailConfig.class)
+class BulkBenchmarkTest {
+
+    private static final AtomicInteger RUN = new AtomicInteger();
+
+    @Autowired
+    private BulkDocumentService bulkDocumentService;
+
+    @Autowired
+    private MailOutboxWorker mailOutboxWorker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CountingMailSender mailSender;
+
+    private Statistics statistics;
+    private User creator;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        creator = userRepository.findById("bench-admin").orElseGet(() -> userRepository.save(User.builder()
+                .id("bench-admin")
+                .name("관리자")
+                .email("bench-admin@example.com")
+                .role(Role.ADMIN)
+                .position(Position.교직원)
+                .build()));
+    }
+
+    @ParameterizedTest(name = "{0}행")
+    @ValueSource(ints = {100, 1_000, 10_000})
+    void previewCommitAndMail(int rows) {
+        int run = RUN.incrementAndGet();
+        Template template = templateRepository.save(Template.builder()
+                .name("근무일지 " + run)
+                .createdBy(creator)
+                .build());
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "students-" + rows + ".csv", "text/csv", syntheticCsv(run, rows));
+
+        BulkPreviewResponse preview = measure("preview", rows,
+                () -> bulkDocumentService.createPreview(file, template.getId(), creator));
+        assertThat(preview.getValidRows()).isEqualTo(rows);
+
+        BulkCommitRequest request = new BulkCommitRequest();
+        request.setStagingId(preview.getStagingId());
+        BulkCommitResponse commit = measure("commit", rows,
+                () -> bulkDocumentService.commitBulkCreation(request, creator));
+        assertThat(commit.getCreated()).isEqualTo(rows);
+
+        int sentBefore = mailSender.sent.get();
+        measure("mail", rows, () -> {
+            mailOutboxWorker.poll();
+            awaitSent(sentBefore + rows);
+            return null;
+        });
+        assertThat(mailSender.sent.get() - sentBefore).isEqualTo(rows);
+    }
+
+    // poll은 전송 작업을 띄우고 바로 돌아오므로 전송 수가 채워질 때까지 대기
+    private void awaitSent(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        while (mailSender.sent.get() < expected && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private <T> T measure(String phase, int rows, Supplier<T> action) {
+        HeapProbe.reset();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+
+        T result = action.get();
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        System.out.printf("[bulk-benchmark] %-7s 행: %6d, 소요: %6dms, 초당: %7d행, 쿼리: %6d개, 최대 힙: %5dMB%n",
+                phase, rows, elapsedMs, rows * 1000L / elapsedMs,
+                statistics.getPrepareStatementCount(), HeapProbe.peakMegabytes());
+        return result;
+    }
+
+    // 학번, 이름, 이메일, 과목 + 추가 컬럼 하나
+    private byte[] syntheticCsv(int run, int rows) {
+        StringBuilder csv = new StringBuilder("학번,이름,이메일,과목,근무시간\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(String.format("2%03d%05d,학생%d,student%d-%d@example.com,자료구조,%d%n",
+                    run, i, i, run, i, i % 40));
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TestConfiguration
+    static class FakeMailConfig {
+
+        @Bean
+        CountingMailSender countingMailSender() {
+            return new CountingMailSender();
+        }
+    }
+
+    /**
+     * 실제로 보내지 않고 전송 수만 세는 메일 발송기
+     */
+    static class CountingMailSender implements JavaMailSender {
+
+        private final Session session = Session.getInstance(new Properties());
+        final AtomicInteger sent = new AtomicInteger();
+
+        @Override
+        public MimeMessage createMimeMessage() {
+            return new MimeMessage(session);
+        }
+
+        @Override
+        public MimeMessage createMimeMessage(InputStream contentStream) {
+            try {
+                return new MimeMessage(session, contentStream);
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void send(MimeMessage mimeMessage) {
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            sent.addAndGet(mimeMessages.length);
+        }
+
+        @Override
+        public void send(MimeMessagePreparator mimeMessagePreparator) {
+            send(new MimeMessagePreparator[]{mimeMessagePreparator});
+        }
+
+        @Override
+        public void send(MimeMessagePreparator... mimeMessagePreparators) {
+            for (MimeMessagePreparator preparator : mimeMessagePreparators) {
+                try {
+                    preparator.prepare(createMimeMessage());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                sent.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void send(SimpleMailMessage simpleMessage) {
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            sent.addAndGet(simpleMessages.length);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.hiswork.backend.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * 성능 측정 구간의 최대 힙 사용량 측정 <br/>
+ * 힙 메모리 풀별 최대값의 합이라 실제 최대값보다 약간 클 수 있음 (구간끼리 비교하는 용도)
+ */
+final class HeapProbe {
+
+    private HeapProbe() {
+    }
+
+    static void reset() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    static long peakMegabytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak / (1024 * 1024);
+    }
+}
@@ -0,0 +1,207 @@
+package com.hiswork.backend.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiswork.backend.domain.Position;
+import com.hiswork.backend.domain.Role;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.AuthDto;
+import com.hiswork.backend.dto.LoginRequest;
+import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.service.AuthService;
+import com.hiswork.backend.service.HisnetLoginService;
+import com.hiswork.backend.util.CircuitBreaker;
+import com.hiswork.backend.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 로그인 처리량 측정 (./gradlew benchmark) <br/>
+ * 비밀번호 로그인(BCrypt), 히즈넷 로그인(응답을 흉내 내는 가짜 히즈넷), JWT 발급/검증을
+ * 스레드 1개와 코어 수만큼으로 나눠 실행하고 초당 처리 수와 코어당 처리 수를 출력한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+class LoginBenchmarkTest {
+
+    private static final String PASSWORD = "benchmark-password";
+    private static final int HISNET_USERS = 200;
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private HisnetLoginService hisnetLoginService;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        hisnetLoginService = new HisnetLoginService(new StubHisnetRestTemplate(),
+                new CircuitBreaker("bench-hisnet", 5, Duration.ofSeconds(30)), meterRegistry, objectMapper);
+        ReflectionTestUtils.setField(hisnetLoginService, "ACCESS_KEY", "benchmark");
+        ReflectionTestUtils.setField(hisnetLoginService, "HISNET_URL", "http://localhost:0");
+    }
+
+    @Test
+    void passwordLogin() throws Exception {
+        userRepository.findByEmail("bench-login@example.com").orElseGet(() -> userRepository.save(User.builder()
+                .id("bench-login")
+                .name("로그인")
+                .email("bench-login@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(Role.USER)
+                .position(Position.학생)
+                .build()));
+        LoginRequest request = new LoginRequest();
+        request.setEmail("bench-login@example.com");
+        request.setPassword(PASSWORD);
+
+        // BCrypt 비용이 처리량을 결정하므로 횟수를 적게
+        measure("비밀번호 로그인", 20, i -> assertThat(authService.login(request).getToken()).isNotBlank());
+    }
+
+    @Test
+    void hisnetLogin() throws Exception {
+        // 첫 로그인으로 사용자를 만들어 두고, 이후에는 프로필이 그대로인 재로그인만 측정
+        for (int i = 0; i < HISNET_USERS; i++) {
+            hisnetLogin(i);
+        }
+
+        statistics.clear();
+        measure("히즈넷 로그인", 500, this::hisnetLogin);
+
+        // 프로필이 바뀌지 않았으면 사용자 행을 다시 쓰지 않음
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+
+    @Test
+    void jwtCreateAndValidate() throws Exception {
+        Key accessTokenKey = jwtUtil.getAccessTokenKey();
+
+        measure("JWT 발급", 5_000, i -> JwtUtil.createToken("2" + i, "학생" + i, "전산전자공학부", accessTokenKey));
+
+        String token = JwtUtil.createToken("21900001", "학생", "전산전자공학부", accessTokenKey);
+        measure("JWT 검증", 5_000, i -> assertThat(JwtUtil.validateToken(token, accessTokenKey)).isTrue());
+
+        measure("JWT 발급+검증", 5_000, i -> {
+            String email = "student" + i + "@example.com";
+            assertThat(jwtUtil.getEmailFromToken(jwtUtil.generateToken(email))).isEqualTo(email);
+        });
+    }
+
+    private void hisnetLogin(int index) {
+        AuthDto request = AuthDto.builder()
+                .hisnetToken("bench-token-" + (index % HISNET_USERS))
+                .build();
+        AuthDto profile = hisnetLoginService.callHisnetLoginApi(request);
+        assertThat(authService.login(profile).getToken()).isNotBlank();
+    }
+
+    /**
+     * 스레드 1개와 코어 수만큼의 스레드로 각각 스레드당 opsPerThread번 실행
+     */
+    private void measure(String label, int opsPerThread, Operation operation) throws Exception {
+        for (int threads : new int[]{1, CORES}) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                long startedAt = System.nanoTime();
+                List<Future<?>> futures = new ArrayList<>(threads);
+                for (int t = 0; t < threads; t++) {
+                    int offset = t * opsPerThread;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < opsPerThread; i++) {
+                            operation.run(offset + i);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+
+                long ops = (long) threads * opsPerThread;
+                long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+                long opsPerSecond = ops * 1000L / elapsedMs;
+                System.out.printf("[login-benchmark] %-12s 스레드: %2d, 횟수: %6d, 소요: %6dms, 초당: %7d회, 코어당: %6d회 (코어 %d개)%n",
+                        label, threads, ops, elapsedMs, opsPerSecond, opsPerSecond / CORES, CORES);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * 네트워크 없이 히즈넷 로그인 응답을 돌려주는 RestTemplate <br/>
+     * 토큰 번호로 학번을 정해 같은 토큰이면 항상 같은 프로필을 반환
+     */
+    private static class StubHisnetRestTemplate extends RestTemplate {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                              ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+            Map<?, ?> body = (Map<?, ?>) requestEntity.getBody();
+            String index = body.get("token").toString().substring("bench-token-".length());
+            Map<String, Object> profile = Map.of(
+                    "uniqueId", "2" + String.format("%07d", Integer.parseInt(index)),
+                    "name", "학생" + index,
+                    "email", "hisnet" + index + "@example.com",
+                    "department", "전산전자공학부",
+                    "major1", "컴퓨터공학",
+                    "major2", "",
+                    "grade", 3,
+                    "semester", 6);
+            return (ResponseEntity<T>) ResponseEntity.ok(profile);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.hiswork.backend.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hiswork.backend.service.MailBatchDispatcher;
+import com.hiswork.backend.service.SmtpTransportPool;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * SMTP 연결 풀 전송 속도 측정 (./gradlew benchmark) <br/>
+ * 메일마다 연결을 새로 맺는 기존 방식과 연결 풀 배치 전송의 초당 전송 수를 GreenMail로 비교한다.
+ */
+@Tag("benchmark")
+class SmtpPoolBenchmarkTest {
+
+    private static final int MESSAGES = 300;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void messagesPerSecondBeforeAndAfterPooling() throws Exception {
+        JavaMailSenderImpl senderImpl = new JavaMailSenderImpl();
+        senderImpl.setHost("localhost");
+        senderImpl.setPort(ServerSetupTest.SMTP.getPort());
+
+        // 기존: 메일마다 TCP 연결 + SMTP 핸드셰이크
+        List<MimeMessage> perMessage = messages(senderImpl, "before");
+        long startedAt = System.nanoTime();
+        for (MimeMessage message : perMessage) {
+            senderImpl.send(message);
+        }
+        report("연결마다 새로", startedAt);
+
+        // 개선: 풀에서 빌린 연결로 연결 수만큼 나눠 전송
+        for (int poolSize : new int[]{1, 3}) {
+            SmtpTransportPool pool = pool(poolSize);
+            MailBatchDispatcher dispatcher = new MailBatchDispatcher(
+                    senderImpl, pool, new SimpleAsyncTaskExecutor("bench-dispatch-"));
+
+            List<MimeMessage> batch = messages(senderImpl, "pool-" + poolSize);
+            startedAt = System.nanoTime();
+            List<Exception> errors = dispatcher.dispatchEach(batch);
+            report("연결 풀 " + poolSize + "개", startedAt);
+
+            assertThat(errors).allMatch(Objects::isNull);
+            ReflectionTestUtils.invokeMethod(pool, "closeAll");
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(MESSAGES * 3);
+    }
+
+    private SmtpTransportPool pool(int maxSize) {
+        SmtpTransportPool pool = new SmtpTransportPool();
+        ReflectionTestUtils.setField(pool, "maxSize", maxSize);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(pool, "idleTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(pool, "borrowTimeoutSeconds", 30L);
+        ReflectionTestUtils.invokeMethod(pool, "init");
+        return pool;
+    }
+
+    private List<MimeMessage> messages(JavaMailSenderImpl senderImpl, String label) throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            MimeMessage message = senderImpl.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom("noreply@example.com");
+            helper.setTo("student" + i + "@example.com");
+            helper.setSubject("[CoWorks] " + label + " " + i);
+            helper.setText("<p>편집자로 지정되었습니다.</p>", true);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private void report(String label, long startedAt) {
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        System.out.printf("[smtp-benchmark] %-10s 메일: %d, 소요: %6dms, 초당: %6d통%n",
+                label, MESSAGES, elapsedMs, MESSAGES * 1000L / elapsedMs);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hiswork.backend.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hiswork.backend.dto.AuthDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserTest {
+
+    @Test
+    @DisplayName("히즈넷 프로필이 그대로면 변경 없음")
+    void unchangedProfile() {
+        User user = User.from(profile(3));
+
+        assertThat(user.updateProfile(profile(3))).isFalse();
+        assertThat(user.getPosition()).isEqualTo(Position.학생);
+    }
+
+    @Test
+    @DisplayName("학년이 바뀌면 직분도 다시 결정")
+    void recomputesPositionWhenGradeChanges() {
+        User user = User.from(profile(3));
+
+        assertThat(user.updateProfile(profile(0))).isTrue();
+        assertThat(user.getGrade()).isZero();
+        assertThat(user.getPosition()).isEqualTo(Position.교직원);
+    }
+
+    private AuthDto profile(int grade) {
+        return AuthDto.builder()
+                .uniqueId("21900001")
+                .name("학생")
+                .email("student@example.com")
+                .department("전산전자공학부")
+                .major1("컴퓨터공학")
+                .major2("")
+                .grade(grade)
+                .semester(6)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.hiswork.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SmtpTransportPoolTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl senderImpl;
+    private SmtpTransportPool pool;
+
+    @BeforeEach
+    void setUp() {
+        senderImpl = new JavaMailSenderImpl();
+        senderImpl.setHost("localhost");
+        senderImpl.setPort(ServerSetupTest.SMTP.getPort());
+        senderImpl.setProtocol("smtp");
+
+        pool = new SmtpTransportPool();
+        ReflectionTestUtils.setField(pool, "maxSize", 2);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 3);
+        ReflectionTestUtils.setField(pool, "idleTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(pool, "borrowTimeoutSeconds", 1L);
+        pool.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.closeAll();
+    }
+
+    @Test
+    @DisplayName("연결당 전송 수 한도까지 재사용하고, 한도에 도달하면 새로 연결")
+    void reusesConnectionUntilMessageLimit() throws Exception {
+        Set<Transport> transports = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int i = 0; i < 7; i++) {
+            SmtpTransportPool.PooledTransport pooled = pool.borrow(senderImpl);
+            transports.add(pooled.transport());
+            send(pooled, i);
+            pool.release(pooled, true);
+        }
+
+        // 3 + 3 + 1
+        assertThat(transports).hasSize(3);
+        assertThat(greenMail.getReceivedMessages()).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("한도에 도달한 연결은 반납할 때 닫음")
+    void closesConnectionAtMessageLimitOnRelease() throws Exception {
+        SmtpTransportPool.PooledTransport pooled = pool.borrow(senderImpl);
+        for (int i = 0; i < 3; i++) {
+            send(pooled, i);
+        }
+        assertThat(pooled.hasCapacity()).isFalse();
+
+        pool.release(pooled, true);
+
+        assertThat(pooled.transport().isConnected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 연결은 정리하고 다음 대여에서 새로 연결")
+    void evictsIdleConnection() throws Exception {
+        SmtpTransportPool.PooledTransport first = pool.borrow(senderImpl);
+        send(first, 0);
+        pool.release(first, true);
+
+        ReflectionTestUtils.setField(pool, "idleTimeoutSeconds", 0L);
+        Thread.sleep(5);
+        pool.evictIdle();
+
+        assertThat(first.transport().isConnected()).isFalse();
+
+        SmtpTransportPool.PooledTransport second = pool.borrow(senderImpl);
+        assertThat(second.transport()).isNotSameAs(first.transport());
+        pool.release(second, true);
+    }
+
+    @Test
+    @DisplayName("오류가 난 연결은 풀에 보관하지 않음")
+    void discardsUnhealthyConnection() throws Exception {
+        SmtpTransportPool.PooledTransport first = pool.borrow(senderImpl);
+        pool.release(first, false);
+
+        SmtpTransportPool.PooledTransport second = pool.borrow(senderImpl);
+        assertThat(second.transport()).isNotSameAs(first.transport());
+        pool.release(second, true);
+    }
+
+    private void send(SmtpTransportPool.PooledTransport pooled, int index) throws MessagingException {
+        MimeMessage message = senderImpl.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom("noreply@example.com");
+        helper.setTo("student" + index + "@example.com");
+        helper.setSubject("테스트 " + index);
+        helper.setText("본문");
+        message.saveChanges();
+
+        pooled.transport().sendMessage(message, message.getAllRecipients());
+        pooled.countSent();
+    }
+}
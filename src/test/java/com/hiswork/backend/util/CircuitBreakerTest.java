@@ -0,0 +1,69 @@
+package com.hiswork.backend.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, Duration.ZERO);
+
+    @Test
+    @DisplayName("연속 실패가 한도에 도달하면 열림")
+    void opensAtFailureThreshold() {
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("열린 뒤 도착한 이전 호출의 성공은 무시")
+    void ignoresStaleSuccessWhileOpen() {
+        CircuitBreaker.Permit stale = circuitBreaker.tryAcquire();
+        open();
+
+        circuitBreaker.onSuccess(stale);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서는 시험 호출의 결과만 상태를 바꾸고, 시험 호출 중에는 다른 호출을 거절")
+    void onlyTrialOutcomeLeavesHalfOpen() {
+        CircuitBreaker.Permit stale = circuitBreaker.tryAcquire();
+        open();
+
+        CircuitBreaker.Permit trial = circuitBreaker.tryAcquire();
+        assertThat(trial.trial()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess(stale);
+        circuitBreaker.onFailure(stale);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isNull();
+
+        circuitBreaker.onSuccess(trial);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire().trial()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열고 다음 시험 호출을 허용")
+    void reopensWhenTrialFails() {
+        open();
+
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(circuitBreaker.tryAcquire().trial()).isTrue();
+    }
+
+    private void open() {
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+    }
+}